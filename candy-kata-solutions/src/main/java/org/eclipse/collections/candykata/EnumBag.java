@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Collector;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.impl.bag.mutable.AbstractMutableBag;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A {@link MutableBag} of the constants of one enum, stored as an {@code int[]} of counts indexed by
+ * {@link Enum#ordinal()}.
+ * <p/>
+ * Adding, removing and {@link #occurrencesOf(Object)} are array reads and writes, and
+ * {@link #selectByOccurrences(IntPredicate)} and {@link #forEachWithOccurrences(ObjectIntProcedure)} walk the counts
+ * without hashing. {@link #topOccurrences(int)} is inherited and sorts the pairs from
+ * {@link #forEachWithOccurrences(ObjectIntProcedure)}. The footprint is one small array per bag however many elements
+ * are added. A bag can be filled from a stream with {@link #toEnumBag(Class)}, in the style of
+ * {@code Collectors2.toBag()}, or used as the target of {@code countBy}, and {@link #toImmutable()} returns an
+ * {@link ImmutableEnumBag}.
+ */
+public final class EnumBag<E extends Enum<E>> extends AbstractMutableBag<E>
+{
+    private final Class<E> elementType;
+    private final E[] constants;
+    private final int[] counts;
+    private int size;
+    private int sizeDistinct;
+
+    private EnumBag(Class<E> elementType, E[] constants)
+    {
+        this.elementType = elementType;
+        this.constants = constants;
+        this.counts = new int[constants.length];
+    }
+
+    public static <E extends Enum<E>> EnumBag<E> empty(Class<E> elementType)
+    {
+        return new EnumBag<>(elementType, elementType.getEnumConstants());
+    }
+
+    @SafeVarargs
+    public static <E extends Enum<E>> EnumBag<E> with(Class<E> elementType, E... elements)
+    {
+        EnumBag<E> result = empty(elementType);
+        ArrayIterate.forEach(elements, result::add);
+        return result;
+    }
+
+    public static <E extends Enum<E>> EnumBag<E> withAll(Class<E> elementType, Iterable<? extends E> elements)
+    {
+        EnumBag<E> result = empty(elementType);
+        Iterate.forEach(elements, result::add);
+        return result;
+    }
+
+    /**
+     * Returns a {@link Collector} that counts the elements of a stream into an {@link EnumBag}.
+     */
+    public static <E extends Enum<E>> Collector<E, ?, EnumBag<E>> toEnumBag(Class<E> elementType)
+    {
+        return Collector.of(
+                () -> EnumBag.empty(elementType),
+                EnumBag::add,
+                EnumBag::withAll,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public Class<E> getElementType()
+    {
+        return this.elementType;
+    }
+
+    @Override
+    public MutableBag<E> newEmpty()
+    {
+        return new EnumBag<>(this.elementType, this.constants);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.sizeDistinct;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        return this.elementType.isInstance(item) ? this.counts[((Enum<?>) item).ordinal()] : 0;
+    }
+
+    @Override
+    public boolean add(E item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public int addOccurrences(E item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        return this.setCount(item.ordinal(), this.counts[item.ordinal()] + occurrences);
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        int current = this.occurrencesOf(item);
+        if (occurrences == 0 || current == 0)
+        {
+            return false;
+        }
+        this.setCount(((Enum<?>) item).ordinal(), Math.max(0, current - occurrences));
+        return true;
+    }
+
+    @Override
+    public boolean setOccurrences(E item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        int ordinal = item.ordinal();
+        if (this.counts[ordinal] == occurrences)
+        {
+            return false;
+        }
+        this.setCount(ordinal, occurrences);
+        return true;
+    }
+
+    private int setCount(int ordinal, int count)
+    {
+        int previous = this.counts[ordinal];
+        this.counts[ordinal] = count;
+        this.size += count - previous;
+        if (previous == 0 && count > 0)
+        {
+            this.sizeDistinct++;
+        }
+        else if (previous > 0 && count == 0)
+        {
+            this.sizeDistinct--;
+        }
+        return count;
+    }
+
+    @Override
+    public EnumBag<E> with(E element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public EnumBag<E> without(E element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public EnumBag<E> withAll(Iterable<? extends E> elements)
+    {
+        if (elements instanceof EnumBag<?> && ((EnumBag<?>) elements).elementType == this.elementType)
+        {
+            int[] other = ((EnumBag<?>) elements).counts;
+            for (int i = 0; i < other.length; i++)
+            {
+                if (other[i] > 0)
+                {
+                    this.setCount(i, this.counts[i] + other[i]);
+                }
+            }
+        }
+        else
+        {
+            Iterate.forEach(elements, this::add);
+        }
+        return this;
+    }
+
+    @Override
+    public EnumBag<E> withoutAll(Iterable<? extends E> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        int oldSize = this.size;
+        for (Object each : iterable)
+        {
+            if (this.elementType.isInstance(each))
+            {
+                this.setCount(((Enum<?>) each).ordinal(), 0);
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> predicate)
+    {
+        int oldSize = this.size;
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.constants[i]))
+            {
+                this.setCount(i, 0);
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super E, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.counts, 0);
+        this.size = 0;
+        this.sizeDistinct = 0;
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super E> procedure)
+    {
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0)
+            {
+                procedure.value(this.constants[i], this.counts[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        return this.detectIndexWithOccurrences(predicate) >= 0;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        return this.detectIndexWithOccurrences((each, occurrences) -> !predicate.accept(each, occurrences)) < 0;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        return this.detectIndexWithOccurrences(predicate) < 0;
+    }
+
+    @Override
+    public E detectWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        int index = this.detectIndexWithOccurrences(predicate);
+        return index < 0 ? null : this.constants[index];
+    }
+
+    private int detectIndexWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.constants[i], this.counts[i]))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void each(Procedure<? super E> procedure)
+    {
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            E each = this.constants[i];
+            for (int j = 0; j < this.counts[i]; j++)
+            {
+                procedure.value(each);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new EnumBagIterator();
+    }
+
+    @Override
+    public RichIterable<E> getKeysView()
+    {
+        return ArrayIterate.select(this.constants, each -> this.counts[each.ordinal()] > 0).asLazy();
+    }
+
+    @Override
+    public E getFirst()
+    {
+        return this.detectWithOccurrences((each, occurrences) -> true);
+    }
+
+    @Override
+    public E getLast()
+    {
+        for (int i = this.counts.length - 1; i >= 0; i--)
+        {
+            if (this.counts[i] > 0)
+            {
+                return this.constants[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public EnumBag<E> selectByOccurrences(IntPredicate predicate)
+    {
+        EnumBag<E> result = new EnumBag<>(this.elementType, this.constants);
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.counts[i]))
+            {
+                result.setCount(i, this.counts[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public EnumBag<E> select(Predicate<? super E> predicate)
+    {
+        return this.filter(predicate, true);
+    }
+
+    @Override
+    public EnumBag<E> reject(Predicate<? super E> predicate)
+    {
+        return this.filter(predicate, false);
+    }
+
+    private EnumBag<E> filter(Predicate<? super E> predicate, boolean expected)
+    {
+        EnumBag<E> result = new EnumBag<>(this.elementType, this.constants);
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.constants[i]) == expected)
+            {
+                result.setCount(i, this.counts[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <V> MutableBagMultimap<V, E> groupBy(Function<? super E, ? extends V> function)
+    {
+        MutableBagMultimap<V, E> result = HashBagMultimap.newMultimap();
+        this.each(each -> result.put(function.valueOf(each), each));
+        return result;
+    }
+
+    @Override
+    public <V> MutableBagMultimap<V, E> groupByEach(Function<? super E, ? extends Iterable<V>> function)
+    {
+        MutableBagMultimap<V, E> result = HashBagMultimap.newMultimap();
+        this.each(each -> function.valueOf(each).forEach(key -> result.put(key, each)));
+        return result;
+    }
+
+    @Override
+    public MutableMap<E, Integer> toMapOfItemToCount()
+    {
+        MutableMap<E, Integer> result = Maps.mutable.empty();
+        this.forEachWithOccurrences(result::put);
+        return result;
+    }
+
+    @Override
+    public ImmutableBag<E> toImmutable()
+    {
+        return new ImmutableEnumBag<>(this.elementType, this.constants, this.counts.clone());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, occurrences) -> bag.occurrencesOf(each) == occurrences);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0)
+            {
+                result += this.constants[i].hashCode() ^ this.counts[i];
+            }
+        }
+        return result;
+    }
+
+    private final class EnumBagIterator implements Iterator<E>
+    {
+        private int index;
+        private int position;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            int[] counts = EnumBag.this.counts;
+            while (this.index < counts.length && this.position >= counts[this.index])
+            {
+                this.index++;
+                this.position = 0;
+            }
+            return this.index < counts.length;
+        }
+
+        @Override
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.position++;
+            this.canRemove = true;
+            return EnumBag.this.constants[this.index];
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            EnumBag.this.setCount(this.index, EnumBag.this.counts[this.index] - 1);
+            this.position--;
+            this.canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.immutable.AbstractImmutableBag;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+
+/**
+ * An {@link ImmutableBag} of the constants of one enum, stored as an {@code int[]} of counts indexed by
+ * {@link Enum#ordinal()}. Counting, {@link #occurrencesOf(Object)} and the occurrence based methods never hash, and
+ * the distinct elements are always visited in ordinal order.
+ */
+public final class ImmutableEnumBag<E extends Enum<E>> extends AbstractImmutableBag<E>
+{
+    private final Class<E> elementType;
+    private final E[] constants;
+    private final int[] counts;
+    private final int size;
+    private final int sizeDistinct;
+
+    ImmutableEnumBag(Class<E> elementType, E[] constants, int[] counts)
+    {
+        this.elementType = elementType;
+        this.constants = constants;
+        this.counts = counts;
+        int size = 0;
+        int sizeDistinct = 0;
+        for (int count : counts)
+        {
+            size += count;
+            if (count > 0)
+            {
+                sizeDistinct++;
+            }
+        }
+        this.size = size;
+        this.sizeDistinct = sizeDistinct;
+    }
+
+    /**
+     * Returns a bag with {@code counts[i]} occurrences of the enum constant with ordinal {@code i}.
+     */
+    public static <E extends Enum<E>> ImmutableEnumBag<E> withCounts(Class<E> elementType, int... counts)
+    {
+        E[] constants = elementType.getEnumConstants();
+        if (counts.length != constants.length)
+        {
+            throw new IllegalArgumentException(
+                    "Expected " + constants.length + " counts for " + elementType.getSimpleName()
+                            + " but got " + counts.length);
+        }
+        for (int count : counts)
+        {
+            if (count < 0)
+            {
+                throw new IllegalArgumentException("Cannot have negative occurrences: " + count);
+            }
+        }
+        return new ImmutableEnumBag<>(elementType, constants, counts.clone());
+    }
+
+    public static <E extends Enum<E>> ImmutableEnumBag<E> empty(Class<E> elementType)
+    {
+        E[] constants = elementType.getEnumConstants();
+        return new ImmutableEnumBag<>(elementType, constants, new int[constants.length]);
+    }
+
+    public Class<E> getElementType()
+    {
+        return this.elementType;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.sizeDistinct;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        return this.elementType.isInstance(item) ? this.counts[((Enum<?>) item).ordinal()] : 0;
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super E> procedure)
+    {
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0)
+            {
+                procedure.value(this.constants[i], this.counts[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        return this.detectIndexWithOccurrences(predicate) >= 0;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        return this.detectIndexWithOccurrences((each, occurrences) -> !predicate.accept(each, occurrences)) < 0;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        return this.detectIndexWithOccurrences(predicate) < 0;
+    }
+
+    @Override
+    public E detectWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        int index = this.detectIndexWithOccurrences(predicate);
+        return index < 0 ? null : this.constants[index];
+    }
+
+    private int detectIndexWithOccurrences(ObjectIntPredicate<? super E> predicate)
+    {
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.constants[i], this.counts[i]))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void each(Procedure<? super E> procedure)
+    {
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            E each = this.constants[i];
+            for (int j = 0; j < this.counts[i]; j++)
+            {
+                procedure.value(each);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private int index = ImmutableEnumBag.this.nextIndex(0);
+            private int remaining = this.index < 0 ? 0 : ImmutableEnumBag.this.counts[this.index];
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.remaining > 0;
+            }
+
+            @Override
+            public E next()
+            {
+                if (this.remaining == 0)
+                {
+                    throw new NoSuchElementException();
+                }
+                E result = ImmutableEnumBag.this.constants[this.index];
+                if (--this.remaining == 0)
+                {
+                    this.index = ImmutableEnumBag.this.nextIndex(this.index + 1);
+                    this.remaining = this.index < 0 ? 0 : ImmutableEnumBag.this.counts[this.index];
+                }
+                return result;
+            }
+        };
+    }
+
+    private int nextIndex(int from)
+    {
+        for (int i = from; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E getFirst()
+    {
+        int index = this.nextIndex(0);
+        return index < 0 ? null : this.constants[index];
+    }
+
+    @Override
+    public E getLast()
+    {
+        for (int i = this.counts.length - 1; i >= 0; i--)
+        {
+            if (this.counts[i] > 0)
+            {
+                return this.constants[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ImmutableBag<E> newWith(E element)
+    {
+        int[] result = this.counts.clone();
+        result[element.ordinal()]++;
+        return new ImmutableEnumBag<>(this.elementType, this.constants, result);
+    }
+
+    @Override
+    public ImmutableBag<E> newWithout(E element)
+    {
+        if (this.occurrencesOf(element) == 0)
+        {
+            return this;
+        }
+        int[] result = this.counts.clone();
+        result[element.ordinal()]--;
+        return new ImmutableEnumBag<>(this.elementType, this.constants, result);
+    }
+
+    @Override
+    public ImmutableBag<E> newWithAll(Iterable<? extends E> elements)
+    {
+        int[] result = this.counts.clone();
+        for (E each : elements)
+        {
+            result[each.ordinal()]++;
+        }
+        return new ImmutableEnumBag<>(this.elementType, this.constants, result);
+    }
+
+    @Override
+    public ImmutableBag<E> selectByOccurrences(IntPredicate predicate)
+    {
+        int[] result = new int[this.counts.length];
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.counts[i]))
+            {
+                result[i] = this.counts[i];
+            }
+        }
+        return new ImmutableEnumBag<>(this.elementType, this.constants, result);
+    }
+
+    @Override
+    public ImmutableBag<E> select(Predicate<? super E> predicate)
+    {
+        return this.filter(predicate, true);
+    }
+
+    @Override
+    public ImmutableBag<E> reject(Predicate<? super E> predicate)
+    {
+        return this.filter(predicate, false);
+    }
+
+    private ImmutableBag<E> filter(Predicate<? super E> predicate, boolean expected)
+    {
+        int[] result = new int[this.counts.length];
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0 && predicate.accept(this.constants[i]) == expected)
+            {
+                result[i] = this.counts[i];
+            }
+        }
+        return new ImmutableEnumBag<>(this.elementType, this.constants, result);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> ImmutableBag<S> selectInstancesOf(Class<S> clazz)
+    {
+        return clazz.isAssignableFrom(this.elementType) ? (ImmutableBag<S>) this : Bags.immutable.empty();
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collect(Function<? super E, ? extends V> function)
+    {
+        MutableBag<V> result = Bags.mutable.empty();
+        this.forEachWithOccurrences((each, occurrences) -> result.addOccurrences(function.valueOf(each), occurrences));
+        return result.toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collectIf(Predicate<? super E> predicate, Function<? super E, ? extends V> function)
+    {
+        return this.select(predicate).collect(function);
+    }
+
+    @Override
+    public <V> ImmutableBag<V> flatCollect(Function<? super E, ? extends Iterable<V>> function)
+    {
+        MutableBag<V> result = Bags.mutable.empty();
+        this.forEachWithOccurrences((each, occurrences) -> function.valueOf(each)
+                .forEach(value -> result.addOccurrences(value, occurrences)));
+        return result.toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBagMultimap<V, E> groupBy(Function<? super E, ? extends V> function)
+    {
+        MutableBagMultimap<V, E> result = HashBagMultimap.newMultimap();
+        this.each(each -> result.put(function.valueOf(each), each));
+        return result.toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBagMultimap<V, E> groupByEach(Function<? super E, ? extends Iterable<V>> function)
+    {
+        MutableBagMultimap<V, E> result = HashBagMultimap.newMultimap();
+        this.each(each -> function.valueOf(each).forEach(key -> result.put(key, each)));
+        return result.toImmutable();
+    }
+
+    @Override
+    public <S> ImmutableBag<Pair<E, S>> zip(Iterable<S> that)
+    {
+        return this.toList().zip(that).toBag().toImmutable();
+    }
+
+    @Override
+    public ImmutableSet<Pair<E, Integer>> zipWithIndex()
+    {
+        return this.toList().zipWithIndex().toSet().toImmutable();
+    }
+
+    @Override
+    public MutableMap<E, Integer> toMapOfItemToCount()
+    {
+        MutableMap<E, Integer> result = Maps.mutable.empty();
+        this.forEachWithOccurrences(result::put);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, occurrences) -> bag.occurrencesOf(each) == occurrences);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            if (this.counts[i] > 0)
+            {
+                result += this.constants[i].hashCode() ^ this.counts[i];
+            }
+        }
+        return result;
+    }
+}
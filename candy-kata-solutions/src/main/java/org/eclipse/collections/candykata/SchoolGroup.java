@@ -17,12 +17,11 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.ZoneId;
 import java.util.Random;
-import java.util.stream.IntStream;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ImmutableBag;
 import org.eclipse.collections.api.list.ImmutableList;
-import org.eclipse.collections.impl.collector.Collectors2;
 import org.eclipse.collections.impl.factory.Lists;
 
 /**
@@ -36,6 +35,7 @@ public class SchoolGroup
     private static final LocalTime MIDDLE_SCHOOL_START = ELEMENTARY_SCHOOL_START.plus(Duration.ofHours(2));
     private static final LocalTime HIGH_SCHOOL_START = MIDDLE_SCHOOL_START.plus(Duration.ofHours(2));
     private static final long CANDY_COUNT = 250L;
+    private static final int CANDY_TYPES = Candy.values().length;
 
     private static final SchoolGroup ELEMENTARY_SCHOOL =
             new SchoolGroup(HALLOWEEN.atTime(ELEMENTARY_SCHOOL_START), CANDY_COUNT);
@@ -46,6 +46,7 @@ public class SchoolGroup
 
     private LocalDateTime time;
     private long candyCount;
+    private volatile ImmutableBag<Candy> candy;
 
     private SchoolGroup(LocalDateTime time, long candyCount)
     {
@@ -53,18 +54,40 @@ public class SchoolGroup
         this.candyCount = candyCount;
     }
 
+    /**
+     * Returns a group that starts trick or treating at the given time in New York and collects the given number of
+     * candies.
+     */
+    public static SchoolGroup of(LocalDateTime time, long candyCount)
+    {
+        return new SchoolGroup(time, candyCount);
+    }
+
     public static ImmutableList<SchoolGroup> all()
     {
         return Lists.immutable.with(ELEMENTARY_SCHOOL, MIDDLE_SCHOOL, HIGH_SCHOOL);
     }
 
+    /**
+     * Returns the candy collected by this group. The candy is drawn once from a {@link Random} seeded with the start
+     * time, counted straight into an {@code int[]} by ordinal and kept as an {@link ImmutableEnumBag}, so later calls
+     * return the same bag.
+     */
     public Bag<Candy> trickOrTreat()
     {
-        IntStream limit = new Random(
-                this.time.atZone(NEW_YORK).toEpochSecond())
-                .ints(0, Candy.values().length - 1)
-                .limit(this.candyCount);
-        return limit.mapToObj(i -> Candy.values()[i])
-                .collect(Collectors2.toBag());
+        ImmutableBag<Candy> result = this.candy;
+        if (result == null)
+        {
+            Random random = new Random(this.time.atZone(NEW_YORK).toEpochSecond());
+            int[] counts = new int[CANDY_TYPES];
+            // Draws the same values as Random.ints(0, CANDY_TYPES - 1), so the last candy is never handed out
+            for (long i = 0L; i < this.candyCount; i++)
+            {
+                counts[random.nextInt(CANDY_TYPES - 1)]++;
+            }
+            result = ImmutableEnumBag.withCounts(Candy.class, counts);
+            this.candy = result;
+        }
+        return result;
     }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * Simulates a whole city of school groups trick or treating, each collecting {@link #getCandiesPerGroup()} candies
+ * drawn uniformly from every {@link Candy}.
+ * <p/>
+ * Group {@code i} draws its candy from a {@link SplittableRandom} seeded with {@code seed + i * 0x9E3779B97F4A7C15L},
+ * so each group can be generated on its own and the results do not depend on the number of threads. The groups are
+ * split into batches of {@link #getBatchSize()} that run through {@link MutableList#asParallel(ExecutorService, int)}.
+ * Each batch reuses one {@code int[]} of counts for its groups and keeps only a {@code long[]} of candy totals and a
+ * bit mask of the candies in the top ten of every group so far, so no group's bag is ever created. The batch results
+ * are merged by adding the totals and intersecting the masks.
+ */
+public class TrickOrTreatSimulation
+{
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final Candy[] CANDIES = Candy.values();
+    private static final int TOP = 10;
+
+    static
+    {
+        if (CANDIES.length > Integer.SIZE)
+        {
+            throw new IllegalStateException(
+                    "The top ten masks have one int bit per candy but there are " + CANDIES.length + " candies");
+        }
+    }
+
+    private final long seed;
+    private final int groupCount;
+    private final int candiesPerGroup;
+    private final ExecutorService executor;
+    private final int batchSize;
+
+    public TrickOrTreatSimulation(long seed, int groupCount, int candiesPerGroup)
+    {
+        this(seed, groupCount, candiesPerGroup, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public TrickOrTreatSimulation(
+            long seed,
+            int groupCount,
+            int candiesPerGroup,
+            ExecutorService executor,
+            int batchSize)
+    {
+        if (groupCount < 1 || candiesPerGroup < 0)
+        {
+            throw new IllegalArgumentException(
+                    "Need at least one group and no negative candy counts: " + groupCount + ", " + candiesPerGroup);
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.seed = seed;
+        this.groupCount = groupCount;
+        this.candiesPerGroup = candiesPerGroup;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    public int getGroupCount()
+    {
+        return this.groupCount;
+    }
+
+    public int getCandiesPerGroup()
+    {
+        return this.candiesPerGroup;
+    }
+
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Returns the candy collected by one group, for checking the aggregated results.
+     */
+    public Bag<Candy> group(int index)
+    {
+        int[] counts = new int[CANDIES.length];
+        this.fill(index, counts);
+        return ImmutableEnumBag.withCounts(Candy.class, counts);
+    }
+
+    private void fill(int index, int[] counts)
+    {
+        Arrays.fill(counts, 0);
+        SplittableRandom random = new SplittableRandom(this.seed + index * GOLDEN_GAMMA);
+        for (int i = 0; i < this.candiesPerGroup; i++)
+        {
+            counts[random.nextInt(counts.length)]++;
+        }
+    }
+
+    /**
+     * Generates every group and returns the aggregated results.
+     */
+    public Result run()
+    {
+        int batches = (this.groupCount + this.batchSize - 1) / this.batchSize;
+        return Interval.zeroTo(batches - 1)
+                .toList()
+                .asParallel(this.executor, 1)
+                .collect(batch -> this.runBatch(
+                        batch * this.batchSize,
+                        Math.min(this.groupCount, (batch + 1) * this.batchSize)))
+                .toList()
+                .injectInto(new Result(), Result::merge);
+    }
+
+    private Result runBatch(int from, int to)
+    {
+        Result result = new Result();
+        int[] counts = new int[CANDIES.length];
+        int[] sorted = new int[CANDIES.length];
+        for (int group = from; group < to; group++)
+        {
+            this.fill(group, counts);
+            result.add(counts, topMask(counts, sorted));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a bit per candy ordinal for the candies that {@code topOccurrences(10)} would return for these counts,
+     * including any tied with the tenth.
+     */
+    private static int topMask(int[] counts, int[] sorted)
+    {
+        System.arraycopy(counts, 0, sorted, 0, counts.length);
+        Arrays.sort(sorted);
+        int threshold = Math.max(1, sorted[Math.max(0, sorted.length - TOP)]);
+        int mask = 0;
+        for (int i = 0; i < counts.length; i++)
+        {
+            if (counts[i] >= threshold)
+            {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * The candy totals for the city and the candies in the top ten of every group.
+     */
+    public static final class Result
+    {
+        private final long[] totals = new long[CANDIES.length];
+        private int commonTopMask = -1;
+        private int groups;
+
+        private Result()
+        {
+        }
+
+        private void add(int[] counts, int topMask)
+        {
+            for (int i = 0; i < counts.length; i++)
+            {
+                this.totals[i] += counts[i];
+            }
+            this.commonTopMask &= topMask;
+            this.groups++;
+        }
+
+        private Result merge(Result other)
+        {
+            for (int i = 0; i < this.totals.length; i++)
+            {
+                this.totals[i] += other.totals[i];
+            }
+            this.commonTopMask &= other.commonTopMask;
+            this.groups += other.groups;
+            return this;
+        }
+
+        public int getGroups()
+        {
+            return this.groups;
+        }
+
+        public long occurrencesOf(Candy candy)
+        {
+            return this.totals[candy.ordinal()];
+        }
+
+        public long getTotalCandy()
+        {
+            return Arrays.stream(this.totals).sum();
+        }
+
+        /**
+         * Returns the {@code n} most collected candies across the city, with their totals, plus any tied with the last.
+         *
+         * @throws IllegalArgumentException if {@code n} is less than one
+         */
+        public ImmutableList<ObjectLongPair<Candy>> topCandy(int n)
+        {
+            if (n < 1)
+            {
+                throw new IllegalArgumentException("Need at least one candy: " + n);
+            }
+            MutableList<ObjectLongPair<Candy>> all = Lists.mutable.empty();
+            for (Candy candy : CANDIES)
+            {
+                if (this.totals[candy.ordinal()] > 0)
+                {
+                    all.add(PrimitiveTuples.pair(candy, this.totals[candy.ordinal()]));
+                }
+            }
+            all.sortThisByLong(pair -> -pair.getTwo());
+            if (n >= all.size())
+            {
+                return all.toImmutable();
+            }
+            long last = all.get(n - 1).getTwo();
+            return all.takeWhile(pair -> pair.getTwo() >= last).toImmutable();
+        }
+
+        /**
+         * Returns the candies that are in the top ten of every group, the {@code commonInTop10} query of the kata.
+         */
+        public ImmutableSet<Candy> commonInTop10()
+        {
+            MutableSet<Candy> result = Sets.mutable.empty();
+            for (Candy candy : CANDIES)
+            {
+                if ((this.commonTopMask & (1 << candy.ordinal())) != 0)
+                {
+                    result.add(candy);
+                }
+            }
+            return result.toImmutable();
+        }
+    }
+}
@@ -71,6 +71,18 @@ public class CandyKataSolutionsTest
         Assertions.assertEquals(expected, stringOfItemToCount);
     }
 
+    @Test
+    @Tag("SOLUTION")
+    public void trickOrTreatIsMemoised()
+    {
+        SchoolGroup.all().each(group -> {
+            Bag<Candy> candy = group.trickOrTreat();
+            Assertions.assertSame(candy, group.trickOrTreat());
+            Assertions.assertEquals(250, candy.size());
+            Assertions.assertEquals(0, candy.occurrencesOf(Candy.YORK_PEPPERMINT_PATTY));
+        });
+    }
+
     private MutableList<Bag<Candy>> collectBagsOfCandy()
     {
         return SchoolGroup.all().collect(SchoolGroup::trickOrTreat).toList();
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.text.NumberFormat;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MultiReaderList;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.StringIterate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Compares the footprint of an {@link EnumBag} with a {@code HashBag} and a JDK {@link EnumMap} of counts, in the
+ * style of the {@code CollectionMemoryTest} in the lost and found kata. The enum class and its constants are shared
+ * by every collection, so they are left out of the totals.
+ */
+public class EnumBagMemoryTest
+{
+    private static MultiReaderList<Triple<String, Long, Long>> RESULTS =
+            Lists.multiReader.empty();
+
+    private void recordTriple(String name, Object enumBag, Object other)
+    {
+        long enumBagSize = this.sizeWithoutConstants(enumBag);
+        long otherSize = this.sizeWithoutConstants(other);
+        Assertions.assertTrue(enumBagSize < otherSize);
+        RESULTS.add(Tuples.triple(name, enumBagSize, otherSize));
+    }
+
+    private long sizeWithoutConstants(Object collection)
+    {
+        return GraphLayout.parseInstance(collection)
+                .subtract(GraphLayout.parseInstance(Candy.class, Candy.values()))
+                .totalSize();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void hashBag()
+    {
+        EnumBag<Candy> enumBag = EnumBag.empty(Candy.class);
+        MutableBag<Candy> hashBag = Bags.mutable.empty();
+        for (Candy candy : Candy.values())
+        {
+            enumBag.addOccurrences(candy, 1_000);
+            hashBag.addOccurrences(candy, 1_000);
+        }
+
+        this.recordTriple("HashBag", enumBag, hashBag);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void enumMap()
+    {
+        EnumBag<Candy> enumBag = EnumBag.empty(Candy.class);
+        Map<Candy, Integer> enumMap = new EnumMap<>(Candy.class);
+        for (Candy candy : Candy.values())
+        {
+            enumBag.addOccurrences(candy, 1_000);
+            enumMap.put(candy, 1_000);
+        }
+
+        this.recordTriple("EnumMap", enumBag, enumMap);
+    }
+
+    @AfterAll
+    static void afterAll()
+    {
+        System.out.println(StringIterate.padOrTrim("EnumBag vs. other Candy counts", 49));
+        System.out.println(StringIterate.padOrTrim("Count: 24 candies x 1,000 occurrences", 49));
+        System.out.println(StringIterate.repeat("-", 49));
+        System.out.println("                            " + StringIterate.padOrTrim("EnumBag", 10) + " " + StringIterate.padOrTrim("Other", 10));
+        RESULTS.each(triple -> System.out.println("Type: " + StringIterate.padOrTrim(triple.getOne(), 7)
+                + " Size (bytes): " + StringIterate.padOrTrim(NumberFormat.getInstance().format(triple.getTwo()), 10)
+                + " " + StringIterate.padOrTrim(NumberFormat.getInstance().format(triple.getThree()), 10)));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class EnumBagTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void behavesLikeHashBag()
+    {
+        EnumBag<Candy> bag = EnumBag.with(Candy.class, Candy.TWIX, Candy.NERDS, Candy.NERDS, Candy.SNICKERS);
+        bag.addOccurrences(Candy.NERDS, 3);
+        bag.addOccurrences(Candy.SNICKERS, 2);
+        MutableBag<Candy> expected = Bags.mutable.withOccurrences(Candy.SNICKERS, 3, Candy.TWIX, 1, Candy.NERDS, 5);
+
+        Assertions.assertEquals(expected, bag);
+        Assertions.assertEquals(bag, expected);
+        Assertions.assertEquals(expected.hashCode(), bag.hashCode());
+        Assertions.assertEquals(9, bag.size());
+        Assertions.assertEquals(3, bag.sizeDistinct());
+        Assertions.assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair(Candy.NERDS, 5), PrimitiveTuples.pair(Candy.SNICKERS, 3)),
+                bag.topOccurrences(2));
+        Assertions.assertEquals(expected.selectByOccurrences(n -> n > 1), bag.selectByOccurrences(n -> n > 1));
+        Assertions.assertEquals(expected.select(candy -> candy.name().startsWith("T")), bag.select(candy -> candy.name().startsWith("T")));
+        Assertions.assertEquals(Bags.mutable.with(Candy.SNICKERS, Candy.TWIX, Candy.NERDS), bag.getKeysView().toBag());
+        Assertions.assertEquals(expected.toImmutable(), bag.toImmutable());
+        Assertions.assertEquals(ImmutableEnumBag.class, bag.toImmutable().getClass());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void remove()
+    {
+        EnumBag<Candy> bag = EnumBag.with(Candy.class, Candy.TWIX, Candy.NERDS, Candy.NERDS, Candy.NERDS);
+
+        Assertions.assertTrue(bag.removeOccurrences(Candy.NERDS, 2));
+        Assertions.assertFalse(bag.remove(Candy.CRUNCH));
+        Assertions.assertFalse(bag.remove("TWIX"));
+        Assertions.assertEquals(Bags.mutable.with(Candy.TWIX, Candy.NERDS), bag);
+
+        Iterator<Candy> iterator = bag.iterator();
+        Assertions.assertEquals(Candy.TWIX, iterator.next());
+        iterator.remove();
+        Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        Assertions.assertEquals(Candy.NERDS, iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(Bags.mutable.with(Candy.NERDS), bag);
+        Assertions.assertEquals(1, bag.sizeDistinct());
+
+        bag.clear();
+        Assertions.assertTrue(bag.isEmpty());
+        Assertions.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void collectorAndCountBy()
+    {
+        EnumBag<Candy> collected = Stream.of(Candy.TWIX, Candy.NERDS, Candy.TWIX)
+                .parallel()
+                .collect(EnumBag.toEnumBag(Candy.class));
+        Assertions.assertEquals(Bags.mutable.withOccurrences(Candy.TWIX, 2, Candy.NERDS, 1), collected);
+
+        EnumBag<Candy> counted = Lists.mutable.with("TWIX", "CRUNCH", "TWIX")
+                .countBy(Candy::valueOf, EnumBag.empty(Candy.class));
+        Assertions.assertEquals(Bags.mutable.withOccurrences(Candy.TWIX, 2, Candy.CRUNCH, 1), counted);
+    }
+}
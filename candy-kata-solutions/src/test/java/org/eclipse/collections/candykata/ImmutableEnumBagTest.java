@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ImmutableEnumBagTest
+{
+    private static final int[] COUNTS = new int[Candy.values().length];
+
+    static
+    {
+        COUNTS[Candy.SNICKERS.ordinal()] = 3;
+        COUNTS[Candy.TWIX.ordinal()] = 1;
+        COUNTS[Candy.NERDS.ordinal()] = 5;
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void behavesLikeHashBag()
+    {
+        ImmutableBag<Candy> bag = ImmutableEnumBag.withCounts(Candy.class, COUNTS);
+        MutableBag<Candy> expected = Bags.mutable.withOccurrences(Candy.SNICKERS, 3, Candy.TWIX, 1, Candy.NERDS, 5);
+
+        Assertions.assertEquals(expected, bag);
+        Assertions.assertEquals(bag, expected);
+        Assertions.assertEquals(expected.hashCode(), bag.hashCode());
+        Assertions.assertEquals(9, bag.size());
+        Assertions.assertEquals(3, bag.sizeDistinct());
+        Assertions.assertEquals(0, bag.occurrencesOf("SNICKERS"));
+        Assertions.assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair(Candy.NERDS, 5), PrimitiveTuples.pair(Candy.SNICKERS, 3)),
+                bag.topOccurrences(2));
+        Assertions.assertEquals(expected.selectByOccurrences(n -> n > 1), bag.selectByOccurrences(n -> n > 1));
+        Assertions.assertEquals(expected.toMapOfItemToCount(), bag.toMapOfItemToCount());
+        Assertions.assertEquals(expected.collect(Candy::name), bag.collect(Candy::name));
+        MutableList<Candy> iterated = Lists.mutable.empty();
+        bag.iterator().forEachRemaining(iterated::add);
+        Assertions.assertEquals(bag.toList(), iterated);
+        Assertions.assertEquals(
+                Lists.mutable.with(Candy.SNICKERS, Candy.SNICKERS, Candy.SNICKERS, Candy.TWIX,
+                        Candy.NERDS, Candy.NERDS, Candy.NERDS, Candy.NERDS, Candy.NERDS),
+                bag.toList());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void newWithAndWithout()
+    {
+        ImmutableBag<Candy> bag = ImmutableEnumBag.withCounts(Candy.class, COUNTS);
+
+        Assertions.assertEquals(4, bag.newWith(Candy.SNICKERS).occurrencesOf(Candy.SNICKERS));
+        Assertions.assertEquals(3, bag.occurrencesOf(Candy.SNICKERS));
+        Assertions.assertEquals(0, bag.newWithout(Candy.TWIX).occurrencesOf(Candy.TWIX));
+        Assertions.assertSame(bag, bag.newWithout(Candy.CRUNCH));
+        Assertions.assertEquals(Bags.immutable.with(Candy.TWIX), bag.reject(candy -> candy != Candy.TWIX));
+        Assertions.assertTrue(ImmutableEnumBag.empty(Candy.class).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ImmutableEnumBag.withCounts(Candy.class, 1, 2));
+    }
+}
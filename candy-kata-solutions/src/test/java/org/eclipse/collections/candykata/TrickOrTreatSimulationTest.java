@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TrickOrTreatSimulationTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void matchesMaterialisedGroups()
+    {
+        TrickOrTreatSimulation simulation = new TrickOrTreatSimulation(2022L, 50, 40);
+        TrickOrTreatSimulation.Result result = simulation.run();
+
+        ImmutableList<Bag<Candy>> groups =
+                Interval.zeroTo(49).collect(simulation::group).toList().toImmutable();
+        MutableBag<Candy> bigBagOfCandy = Bags.mutable.empty();
+        groups.each(bag -> bag.forEachWithOccurrences(bigBagOfCandy::addOccurrences));
+        MutableSet<Candy> commonInTop10 = groups
+                .collect(bag -> bag.topOccurrences(10).collect(ObjectIntPair::getOne).toSet())
+                .reduce(MutableSet::intersect)
+                .get();
+
+        Assertions.assertEquals(50, result.getGroups());
+        Assertions.assertEquals(2000L, result.getTotalCandy());
+        for (Candy candy : Candy.values())
+        {
+            Assertions.assertEquals(bigBagOfCandy.occurrencesOf(candy), result.occurrencesOf(candy));
+        }
+        Assertions.assertEquals(
+                bigBagOfCandy.topOccurrences(3).collect(ObjectIntPair::getOne),
+                result.topCandy(3).collect(ObjectLongPair::getOne).castToList());
+        Assertions.assertEquals(commonInTop10, result.commonInTop10());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void resultsDoNotDependOnThreadsOrBatches()
+    {
+        TrickOrTreatSimulation.Result expected = new TrickOrTreatSimulation(31L, 1000, 250).run();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            TrickOrTreatSimulation.Result actual =
+                    new TrickOrTreatSimulation(31L, 1000, 250, executor, 7).run();
+
+            Assertions.assertEquals(expected.topCandy(24), actual.topCandy(24));
+            Assertions.assertEquals(expected.commonInTop10(), actual.commonInTop10());
+            Assertions.assertEquals(1000, actual.getGroups());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void topCandyNeedsAtLeastOneCandy()
+    {
+        TrickOrTreatSimulation.Result result = new TrickOrTreatSimulation(2022L, 5, 40).run();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> result.topCandy(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> result.topCandy(-1));
+        Assertions.assertFalse(result.topCandy(1).isEmpty());
+    }
+}
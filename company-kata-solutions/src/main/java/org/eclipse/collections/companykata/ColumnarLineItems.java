@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.SortedBags;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+
+/**
+ * Stores line items in primitive columns instead of a sorted bag. Item names are dictionary encoded to an int code by
+ * an {@link ItemNameDictionary}, normally the one of the {@link Company} from {@link Company#getItemNames()}, which
+ * only takes a lock when a new name is added. Each distinct item has a row in the name code, value and occurrences
+ * columns, and rows are found by a scan of the name codes, which for the few distinct items of an order costs less
+ * than a hash map of name code to count. The columns start with room for two rows.
+ */
+final class ColumnarLineItems implements LineItems
+{
+    private static final int INITIAL_ROWS = 2;
+
+    private final ItemNameDictionary itemNames;
+    private final MutableIntList nameCodes = IntLists.mutable.withInitialCapacity(INITIAL_ROWS);
+    private final MutableDoubleList values = DoubleLists.mutable.withInitialCapacity(INITIAL_ROWS);
+    private final MutableIntList occurrences = IntLists.mutable.withInitialCapacity(INITIAL_ROWS);
+
+    ColumnarLineItems(ItemNameDictionary itemNames)
+    {
+        this.itemNames = itemNames;
+    }
+
+    @Override
+    public double add(LineItem item, int count)
+    {
+        int code = this.itemNames.encode(item.getName());
+        int row = this.nameCodes.indexOf(code);
+        if (row < 0)
+        {
+            row = this.nameCodes.size();
+            this.nameCodes.add(code);
+            this.values.add(item.getValue());
+            this.occurrences.add(count);
+        }
+        else
+        {
+            this.occurrences.set(row, this.occurrences.get(row) + count);
+        }
+        return this.values.get(row);
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.occurrences.sum();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.nameCodes.size();
+    }
+
+    @Override
+    public boolean containsItemNamed(String itemName)
+    {
+        int code = this.itemNames.codeOf(itemName);
+        return code >= 0 && this.nameCodes.contains(code);
+    }
+
+    /**
+     * Builds a new bag from the columns on each call.
+     */
+    @Override
+    public Bag<LineItem> asUnmodifiable()
+    {
+        MutableSortedBag<LineItem> lineItems = SortedBags.mutable.empty(Order.BY_NAME);
+        for (int i = 0; i < this.nameCodes.size(); i++)
+        {
+            int code = this.nameCodes.get(i);
+            lineItems.addOccurrences(new LineItem(this.itemNames.nameOf(code), this.values.get(i)), this.occurrences.get(i));
+        }
+        return lineItems.asUnmodifiable();
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+/**
+ * An {@link Order} that stores its {@link LineItem}s in primitive columns instead of a sorted bag, with the item names
+ * dictionary encoded by an {@link ItemNameDictionary}, as described in {@link ColumnarLineItems}.
+ * {@link #getLineItems()} builds a new unmodifiable bag from the columns on each call.
+ */
+public class ColumnarOrder extends Order
+{
+    public ColumnarOrder(ItemNameDictionary itemNames)
+    {
+        super(new ColumnarLineItems(itemNames));
+    }
+}
@@ -13,12 +13,18 @@ package org.eclipse.collections.companykata;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.IntFunction;
 
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.list.mutable.ArrayListAdapter;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.junit.jupiter.api.Assertions;
@@ -29,12 +35,37 @@ import org.junit.jupiter.api.Assertions;
 public class Company
 {
     private final String name;
-    private final MutableList<Customer> customers = Lists.mutable.empty();
-    private final MutableList<Supplier> suppliers = Lists.mutable.empty();
+    private final MutableList<Customer> customers;
+    private final MutableMap<String, Customer> customersByName;
+    private final MutableMap<String, MutableSet<Customer>> customersByItemName;
+    private final MutableMap<String, MutableSet<Order>> ordersByItemName;
+    private final MutableList<Supplier> suppliers;
+    private final ItemNameDictionary itemNames = new ItemNameDictionary();
+    private final DoubleAdder totalRevenue = new DoubleAdder();
 
     public Company(String name)
+    {
+        this(name, Lists.mutable.empty(), Maps.mutable.empty(), Maps.mutable.empty(), Maps.mutable.empty(), Lists.mutable.empty());
+    }
+
+    /**
+     * Creates a company backed by the given empty collections, so a subclass such as {@link ConcurrentCompany} can
+     * choose their implementations. The sets held by the item name indexes are created by {@link #newIndexSet()}.
+     */
+    protected Company(
+            String name,
+            MutableList<Customer> customers,
+            MutableMap<String, Customer> customersByName,
+            MutableMap<String, MutableSet<Customer>> customersByItemName,
+            MutableMap<String, MutableSet<Order>> ordersByItemName,
+            MutableList<Supplier> suppliers)
     {
         this.name = name;
+        this.customers = customers;
+        this.customersByName = customersByName;
+        this.customersByItemName = customersByItemName;
+        this.ordersByItemName = ordersByItemName;
+        this.suppliers = suppliers;
     }
 
     public String getName()
@@ -42,9 +73,22 @@ public class Company
         return this.name;
     }
 
+    /**
+     * Returns the dictionary of item names shared by the {@link ColumnarOrder}s of this company.
+     */
+    public ItemNameDictionary getItemNames()
+    {
+        return this.itemNames;
+    }
+
     public void addCustomer(Customer aCustomer)
     {
         this.customers.add(aCustomer);
+        this.customersByName.putIfAbsent(aCustomer.getName(), aCustomer);
+        aCustomer.setCompany(this);
+        this.revenueChanged(aCustomer.getTotalOrderValue());
+        aCustomer.getOrders().each(order -> order.getLineItems().forEachWithOccurrences(
+                (item, count) -> this.itemOrdered(aCustomer, order, item.getName())));
     }
 
     public MutableList<Customer> getCustomers()
@@ -62,6 +106,56 @@ public class Company
         return this.customers.flatCollect(Customer::getOrders);
     }
 
+    /**
+     * Returns the running total of {@link Customer#getTotalOrderValue()} for the customers added with
+     * {@link #addCustomer(Customer)}.
+     */
+    public double getTotalRevenue()
+    {
+        return this.totalRevenue.sum();
+    }
+
+    void revenueChanged(double delta)
+    {
+        this.totalRevenue.add(delta);
+    }
+
+    void itemOrdered(Customer customer, Order order, String itemName)
+    {
+        this.customersByItemName.getIfAbsentPut(itemName, this::newIndexSet).add(customer);
+        this.ordersByItemName.getIfAbsentPut(itemName, this::newIndexSet).add(order);
+    }
+
+    /**
+     * Creates a set for one item name in the indexes behind {@link #customersWhoOrdered(String)} and
+     * {@link #ordersContaining(String)}.
+     */
+    protected <T> MutableSet<T> newIndexSet()
+    {
+        return Sets.mutable.empty();
+    }
+
+    /**
+     * Returns the customers with at least one order containing an item with the given name, from an index kept in
+     * step with {@link #addCustomer(Customer)}, {@link Customer#addOrder(Order)} and {@link Order#addLineItem(LineItem)}.
+     * The set is an unmodifiable view of the index.
+     */
+    public SetIterable<Customer> customersWhoOrdered(String itemName)
+    {
+        MutableSet<Customer> customers = this.customersByItemName.get(itemName);
+        return customers == null ? Sets.immutable.empty() : customers.asUnmodifiable();
+    }
+
+    /**
+     * Returns the orders containing an item with the given name, from the same index as
+     * {@link #customersWhoOrdered(String)}, also as an unmodifiable view.
+     */
+    public SetIterable<Order> ordersContaining(String itemName)
+    {
+        MutableSet<Order> orders = this.ordersByItemName.get(itemName);
+        return orders == null ? Sets.immutable.empty() : orders.asUnmodifiable();
+    }
+
     public Customer getMostRecentCustomer()
     {
         return this.customers.getLast();
@@ -81,14 +175,14 @@ public class Company
     {
         return this.suppliers;
     }
-        /**
-     * Remove the Assertions.fail() and replace the null with an appropriate implementation.
-     * Use a {@link Predicate} to find a {@link Customer} with the name given.
-     *
-     * @see org.eclipse.collections.api.RichIterable#detect(Predicate)
+
+    /**
+     * Looks up the first {@link Customer} added with the given name in an index kept by
+     * {@link #addCustomer(Customer)}, instead of a linear {@link org.eclipse.collections.api.RichIterable#detect(Predicate)}
+     * over {@link #getCustomers()}.
      */
     public Customer getCustomerNamed(String name)
     {
-        return this.customers.detect(customer -> customer.getName().equals(name));
+        return this.customersByName.get(name);
     }
 }
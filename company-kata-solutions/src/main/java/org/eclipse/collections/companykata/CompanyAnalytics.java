@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleBinaryOperator;
+
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectDoubleMaps;
+
+/**
+ * Runs the company-wide aggregations from Exercise 8 on an {@link ExecutorService}.
+ * <p/>
+ * The customers or orders are split into batches of {@link #getBatchSize()} elements. Each batch is aggregated into its
+ * own primitive map by a task submitted through {@link MutableList#asParallel(ExecutorService, int)},
+ * and the batch results are merged in batch order, so the same company and batch size always give the same results.
+ */
+public class CompanyAnalytics
+{
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    private final Company company;
+    private final ExecutorService executor;
+    private final int batchSize;
+
+    public CompanyAnalytics(Company company)
+    {
+        this(company, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public CompanyAnalytics(Company company, ExecutorService executor, int batchSize)
+    {
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.company = company;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    public ExecutorService getExecutor()
+    {
+        return this.executor;
+    }
+
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Returns the total order value of the customers in each city.
+     */
+    public ObjectDoubleMap<String> totalOrderValuesByCity()
+    {
+        return this.aggregateInParallel(
+                this.company.getCustomers(),
+                0.0,
+                Double::sum,
+                (customer, result) -> result.value(customer.getCity(), customer.getTotalOrderValue()));
+    }
+
+    /**
+     * Returns the total value of the line items with each name, across all orders.
+     */
+    public ObjectDoubleMap<String> totalOrderValuesByItem()
+    {
+        return this.aggregateInParallel(
+                this.company.getOrders(),
+                0.0,
+                Double::sum,
+                (order, result) -> order.getLineItems().forEachWithOccurrences(
+                        (item, occurrences) -> result.value(item.getName(), item.getValue() * occurrences)));
+    }
+
+    /**
+     * Returns the value of the most expensive line item ordered by each customer. Customers without any line items
+     * are left out.
+     */
+    public ObjectDoubleMap<Customer> mostExpensiveItem()
+    {
+        return this.aggregateInParallel(
+                this.company.getCustomers(),
+                Double.NEGATIVE_INFINITY,
+                Math::max,
+                (customer, result) -> customer.getOrders().each(order -> order.getLineItems().each(
+                        item -> result.value(customer, item.getValue()))));
+    }
+
+    private <T, K> ObjectDoubleMap<K> aggregateInParallel(
+            MutableList<T> source,
+            double identity,
+            DoubleBinaryOperator combiner,
+            Procedure2<? super T, ObjectDoubleProcedure<K>> function)
+    {
+        return source.chunk(this.batchSize)
+                .toList()
+                .asParallel(this.executor, 1)
+                .collect(batch -> {
+                    MutableObjectDoubleMap<K> result = ObjectDoubleMaps.mutable.empty();
+                    batch.each(each -> function.value(each, (key, value) -> combine(result, key, value, identity, combiner)));
+                    return result;
+                })
+                .toList()
+                .injectInto(ObjectDoubleMaps.mutable.<K>empty(), (result, batchResult) -> {
+                    batchResult.forEachKeyValue((key, value) -> combine(result, key, value, identity, combiner));
+                    return result;
+                });
+    }
+
+    private static <K> void combine(
+            MutableObjectDoubleMap<K> result,
+            K key,
+            double value,
+            double identity,
+            DoubleBinaryOperator combiner)
+    {
+        result.updateValue(key, identity, current -> combiner.applyAsDouble(current, value));
+    }
+}
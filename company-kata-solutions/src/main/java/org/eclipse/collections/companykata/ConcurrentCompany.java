@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.list.MultiReaderList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+
+/**
+ * A {@link Company} that can take customers and orders from many threads at once.
+ * <p/>
+ * The company is backed by {@link MultiReaderList}s that keep insertion order and {@link ConcurrentHashMap}s of
+ * concurrent sets for its indexes. Customers and orders are added while holding one of a fixed number of striped locks
+ * chosen by customer name, through {@link #addCustomer(Customer)}, {@link #getOrAddCustomer(String, String)} and
+ * {@link #addOrder(Customer, Order)}. Two threads only wait for each other when their customers share a stripe. Reads
+ * of a customer's orders or totals should go through {@link #withCustomer(Customer, Function)} so they take the same
+ * lock. Line items should be added to an order before it is passed to {@link #addOrder(Customer, Order)}.
+ */
+public class ConcurrentCompany extends Company
+{
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    public ConcurrentCompany(String name)
+    {
+        super(
+                name,
+                Lists.multiReader.empty(),
+                ConcurrentHashMap.newMap(),
+                ConcurrentHashMap.newMap(),
+                ConcurrentHashMap.newMap(),
+                Lists.multiReader.empty());
+        for (int i = 0; i < STRIPES; i++)
+        {
+            this.locks[i] = new Object();
+        }
+    }
+
+    private Object lockFor(String customerName)
+    {
+        int hash = customerName.hashCode();
+        return this.locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    @Override
+    protected <T> MutableSet<T> newIndexSet()
+    {
+        return SetAdapter.adapt(java.util.concurrent.ConcurrentHashMap.newKeySet());
+    }
+
+    @Override
+    public void addCustomer(Customer aCustomer)
+    {
+        synchronized (this.lockFor(aCustomer.getName()))
+        {
+            super.addCustomer(aCustomer);
+        }
+    }
+
+    /**
+     * Returns the customer with the given name, adding a new one with the given city if there is none yet. When
+     * several threads race to add the same name, exactly one customer is added and all of them get it back.
+     */
+    public Customer getOrAddCustomer(String name, String city)
+    {
+        Customer existing = this.getCustomerNamed(name);
+        if (existing != null)
+        {
+            return existing;
+        }
+        synchronized (this.lockFor(name))
+        {
+            existing = this.getCustomerNamed(name);
+            if (existing != null)
+            {
+                return existing;
+            }
+            // Company adds to the customer list before the name index, so a customer found by name is always in
+            // getCustomers().
+            Customer customer = new Customer(name, city);
+            this.addCustomer(customer);
+            return customer;
+        }
+    }
+
+    /**
+     * Adds the order to the customer while holding the customer's lock stripe.
+     */
+    public void addOrder(Customer customer, Order order)
+    {
+        synchronized (this.lockFor(customer.getName()))
+        {
+            customer.addOrder(order);
+        }
+    }
+
+    /**
+     * Applies the function to the customer while holding the customer's lock stripe, so it sees every order added
+     * by {@link #addOrder(Customer, Order)} on other threads.
+     */
+    public <V> V withCustomer(Customer customer, Function<? super Customer, ? extends V> function)
+    {
+        synchronized (this.lockFor(customer.getName()))
+        {
+            return function.valueOf(customer);
+        }
+    }
+
+    @Override
+    public MutableList<Order> getOrders()
+    {
+        return this.getCustomers().toList().flatCollect(customer -> this.withCustomer(customer, each -> each.getOrders().toList()));
+    }
+}
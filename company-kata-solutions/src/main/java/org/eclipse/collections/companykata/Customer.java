@@ -22,6 +22,8 @@ public class Customer
     private final String city;
 
     private final MutableList<Order> orders = Lists.mutable.empty();
+    private double totalOrderValue;
+    private Company company;
 
     public Customer(String name, String city)
     {
@@ -47,11 +49,40 @@ public class Customer
     public void addOrder(Order anOrder)
     {
         this.orders.add(anOrder);
+        anOrder.setCustomer(this);
+        this.orderValueChanged(anOrder.getValue());
+        anOrder.getLineItems().forEachWithOccurrences((item, count) -> this.itemOrdered(anOrder, item.getName()));
     }
 
+    /**
+     * Returns the running total of the values of the orders added with {@link #addOrder(Order)}, including line items
+     * added to those orders afterwards.
+     */
     public double getTotalOrderValue()
     {
-        return this.orders.sumOfDouble(Order::getValue);
+        return this.totalOrderValue;
+    }
+
+    void orderValueChanged(double delta)
+    {
+        this.totalOrderValue += delta;
+        if (this.company != null)
+        {
+            this.company.revenueChanged(delta);
+        }
+    }
+
+    void itemOrdered(Order order, String itemName)
+    {
+        if (this.company != null)
+        {
+            this.company.itemOrdered(this, order, itemName);
+        }
+    }
+
+    void setCompany(Company company)
+    {
+        this.company = company;
     }
 
     public boolean livesIn(String aCity)
@@ -59,8 +90,17 @@ public class Customer
         return this.city.equals(aCity);
     }
 
+    /**
+     * Uses the item index of the owning {@link Company} when there is one, and otherwise scans the orders.
+     *
+     * @see Company#customersWhoOrdered(String)
+     */
     public boolean orderedItemNamed(String itemName)
     {
+        if (this.company != null)
+        {
+            return this.company.customersWhoOrdered(itemName).contains(this);
+        }
         return this.orders.anySatisfyWith(Order::containsItemNamed, itemName);
     }
 }
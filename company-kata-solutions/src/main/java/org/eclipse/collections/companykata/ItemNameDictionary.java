@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Arrays;
+
+import org.eclipse.collections.api.map.primitive.ImmutableObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+/**
+ * Dictionary encodes item names to int codes for the {@link ColumnarOrder}s of one {@link Company}.
+ * <p/>
+ * The codes and names are held in an immutable snapshot behind a volatile field, so {@link #codeOf(String)} and
+ * {@link #nameOf(int)} never lock. Only {@link #encode(String)} of a name that has not been seen before takes the
+ * lock and replaces the snapshot with a copy that includes the name, which is cheap because a company sells far fewer
+ * distinct items than it takes orders.
+ */
+public final class ItemNameDictionary
+{
+    private volatile Snapshot snapshot = new Snapshot(ObjectIntMaps.immutable.empty(), new String[0]);
+
+    /**
+     * Returns the code of the name, adding it to the dictionary if it is new.
+     */
+    public int encode(String name)
+    {
+        int code = this.codeOf(name);
+        return code >= 0 ? code : this.add(name);
+    }
+
+    private synchronized int add(String name)
+    {
+        Snapshot current = this.snapshot;
+        int code = current.codes.getIfAbsent(name, -1);
+        if (code < 0)
+        {
+            code = current.names.length;
+            String[] names = Arrays.copyOf(current.names, code + 1);
+            names[code] = name;
+            this.snapshot = new Snapshot(current.codes.newWithKeyValue(name, code), names);
+        }
+        return code;
+    }
+
+    /**
+     * Returns the code of the name, or -1 if it has never been encoded.
+     */
+    public int codeOf(String name)
+    {
+        return this.snapshot.codes.getIfAbsent(name, -1);
+    }
+
+    public String nameOf(int code)
+    {
+        return this.snapshot.names[code];
+    }
+
+    public int size()
+    {
+        return this.snapshot.names.length;
+    }
+
+    private static final class Snapshot
+    {
+        private final ImmutableObjectIntMap<String> codes;
+        private final String[] names;
+
+        private Snapshot(ImmutableObjectIntMap<String> codes, String[] names)
+        {
+            this.codes = codes;
+            this.names = names;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.bag.Bag;
+
+/**
+ * Stores the {@link LineItem}s of an {@link Order}. Line items are compared by name, so an item with the name of one
+ * already stored is counted as more of the stored item, at its value.
+ */
+interface LineItems
+{
+    /**
+     * Adds {@code count} occurrences of the item and returns the value of each occurrence, which is the value of the
+     * stored item with the same name if there is one.
+     */
+    double add(LineItem item, int count);
+
+    int size();
+
+    int sizeDistinct();
+
+    boolean containsItemNamed(String itemName);
+
+    /**
+     * Returns the line items as an unmodifiable bag.
+     */
+    Bag<LineItem> asUnmodifiable();
+}
@@ -11,11 +11,10 @@
 package org.eclipse.collections.companykata;
 
 import org.eclipse.collections.api.bag.Bag;
-import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.impl.block.factory.Comparators;
-import org.eclipse.collections.impl.factory.SortedBags;
 
 
+import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -25,14 +24,23 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class Order
 {
     private static final AtomicInteger NEXT_ORDER_NUMBER = new AtomicInteger(1);
+    static final Comparator<LineItem> BY_NAME = Comparators.byFunction(LineItem::getName);
 
     private final int orderNumber;
-    private final MutableSortedBag<LineItem> lineItems = SortedBags.mutable.empty(Comparators.byFunction(LineItem::getName));
+    private final LineItems lineItems;
     private boolean delivered;
+    private double value;
+    private Customer customer;
 
     public Order()
+    {
+        this(new SortedBagLineItems());
+    }
+
+    Order(LineItems lineItems)
     {
         this.orderNumber = NEXT_ORDER_NUMBER.getAndIncrement();
+        this.lineItems = lineItems;
     }
 
     public static void resetNextOrderNumber()
@@ -52,35 +60,73 @@ public class Order
 
     public void addLineItem(LineItem aLineItem)
     {
-        this.lineItems.add(aLineItem);
+        this.addLineItems(aLineItem, 1);
     }
 
+    /**
+     * Adds {@code count} occurrences of the item. Line items are compared by name, so an item with the name of one
+     * already in the order is counted as more of that item, at its value.
+     */
     public void addLineItems( LineItem item, Integer count)
     {
-        this.lineItems.addOccurrences(item, count);
+        int distinctItems = this.lineItems.sizeDistinct();
+        double itemValue = this.lineItems.add(item, count);
+        this.addToValue(itemValue * count);
+        this.itemAdded(item, this.lineItems.sizeDistinct() > distinctItems);
     }
 
+    private void itemAdded(LineItem item, boolean newItem)
+    {
+        if (newItem && this.customer != null)
+        {
+            this.customer.itemOrdered(this, item.getName());
+        }
+    }
+
+    private void addToValue(double delta)
+    {
+        this.value += delta;
+        if (this.customer != null)
+        {
+            this.customer.orderValueChanged(delta);
+        }
+    }
+
+    void setCustomer(Customer customer)
+    {
+        this.customer = customer;
+    }
+
+    /**
+     * Returns the line items unmodifiable, so they can only be added through this order and its value kept in step.
+     */
     public Bag<LineItem> getLineItems()
     {
-        return this.lineItems;
+        return this.lineItems.asUnmodifiable();
     }
 
     @Override
     public String toString()
     {
-        return "order " + this.orderNumber + " items: " + this.lineItems.size();
+        return "order " + this.orderNumber + " items: " + this.itemCount();
+    }
+
+    int itemCount()
+    {
+        return this.lineItems.size();
     }
 
     /**
-     * Refactor to use {@link org.eclipse.collections.api.RichIterable#sumOfDouble(DoubleFunction)}.
+     * Returns the running total of the values of every {@link LineItem} added to this order, which is kept up to date
+     * by {@link #addLineItem(LineItem)} and {@link #addLineItems(LineItem, Integer)}.
      */
     public double getValue()
     {
-        return this.lineItems.sumOfDouble(LineItem::getValue);
+        return this.value;
     }
 
     public boolean containsItemNamed(String itemName)
     {
-        return this.lineItems.containsBy(LineItem::getName, itemName);
+        return this.lineItems.containsItemNamed(itemName);
     }
 }
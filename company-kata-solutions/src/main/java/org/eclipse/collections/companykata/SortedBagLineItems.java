@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.impl.factory.SortedBags;
+
+/**
+ * Stores line items in a sorted bag ordered by {@link Order#BY_NAME}.
+ */
+final class SortedBagLineItems implements LineItems
+{
+    private final MutableSortedBag<LineItem> lineItems = SortedBags.mutable.empty(Order.BY_NAME);
+
+    @Override
+    public double add(LineItem item, int count)
+    {
+        LineItem stored = this.lineItems.occurrencesOf(item) == 0
+                ? item
+                : this.lineItems.detect(each -> Order.BY_NAME.compare(each, item) == 0);
+        this.lineItems.addOccurrences(item, count);
+        return stored.getValue();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.lineItems.size();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.lineItems.sizeDistinct();
+    }
+
+    @Override
+    public boolean containsItemNamed(String itemName)
+    {
+        return this.lineItems.containsBy(LineItem::getName, itemName);
+    }
+
+    /**
+     * Returns a view of the bag, so it follows later additions.
+     */
+    @Override
+    public Bag<LineItem> asUnmodifiable()
+    {
+        return this.lineItems.asUnmodifiable();
+    }
+}
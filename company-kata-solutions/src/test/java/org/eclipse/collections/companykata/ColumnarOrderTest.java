@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarOrderTest
+{
+    private static void addLineItems(Order order)
+    {
+        order.addLineItem(new LineItem("shed", 50.0));
+        order.addLineItems(new LineItem("cup", 1.5), 3);
+        order.addLineItems(new LineItem("saucer", 1.0), 3);
+        order.addLineItem(new LineItem("chair", 12.50));
+        order.addLineItem(new LineItem("cup", 1.5));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void sameAsSortedBagOrder()
+    {
+        Order order = new Order();
+        Order columnarOrder = new ColumnarOrder(new ItemNameDictionary());
+        addLineItems(order);
+        addLineItems(columnarOrder);
+
+        Assertions.assertEquals(
+                order.getLineItems().collect(LineItem::getName).toSortedList(),
+                columnarOrder.getLineItems().collect(LineItem::getName).toSortedList());
+        Assertions.assertEquals(order.getValue(), columnarOrder.getValue(), 0.0);
+        Assertions.assertEquals(order.getLineItems().sumOfDouble(LineItem::getValue),
+                columnarOrder.getLineItems().sumOfDouble(LineItem::getValue), 0.0);
+        Assertions.assertTrue(columnarOrder.containsItemNamed("saucer"));
+        Assertions.assertFalse(columnarOrder.containsItemNamed("sofa"));
+        Assertions.assertFalse(columnarOrder.containsItemNamed("never ordered by anyone"));
+        Assertions.assertTrue(columnarOrder.toString().endsWith(" items: 9"));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void customerAndCompanyTotals()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Customer fred = new Customer("Fred", "London");
+        company.addCustomer(fred);
+        Order columnarOrder = new ColumnarOrder(company.getItemNames());
+        fred.addOrder(columnarOrder);
+        addLineItems(columnarOrder);
+
+        Assertions.assertEquals(71.5, fred.getTotalOrderValue(), 0.0);
+        Assertions.assertEquals(71.5, company.getTotalRevenue(), 0.0);
+        Assertions.assertTrue(fred.orderedItemNamed("cup"));
+        Assertions.assertEquals(1, company.ordersContaining("cup").size());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void dictionaryPerCompany()
+    {
+        Company bloggs = new Company("Bloggs Shed Supplies");
+        Company smiths = new Company("Smiths Crockery");
+        addLineItems(new ColumnarOrder(bloggs.getItemNames()));
+        addLineItems(new ColumnarOrder(bloggs.getItemNames()));
+
+        Assertions.assertEquals(4, bloggs.getItemNames().size());
+        Assertions.assertEquals("shed", bloggs.getItemNames().nameOf(bloggs.getItemNames().codeOf("shed")));
+        Assertions.assertEquals(0, smiths.getItemNames().size());
+        Assertions.assertFalse(new ColumnarOrder(smiths.getItemNames()).containsItemNamed("shed"));
+        Assertions.assertEquals(0, smiths.getItemNames().size());
+    }
+}
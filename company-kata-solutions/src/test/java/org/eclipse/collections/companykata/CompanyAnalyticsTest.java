@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks {@link CompanyAnalytics} against the single threaded answers from {@link Exercise8Test}, using a batch size
+ * of one so every customer and order is aggregated in its own task.
+ */
+public class CompanyAnalyticsTest extends CompanyDomainForKata
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    private CompanyAnalytics analytics()
+    {
+        return new CompanyAnalytics(this.company, this.executor, 1);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void totalOrderValuesByCity()
+    {
+        ObjectDoubleMap<String> map = this.analytics().totalOrderValuesByCity();
+
+        Verify.assertSize(2, map);
+        Assertions.assertEquals(446.25, map.get("London"), 0.0);
+        Assertions.assertEquals(857.0, map.get("Liphook"), 0.0);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void totalOrderValuesByItem()
+    {
+        ObjectDoubleMap<String> map = this.analytics().totalOrderValuesByItem();
+
+        Verify.assertSize(12, map);
+        Assertions.assertEquals(100.0, map.get("shed"), 0.0);
+        Assertions.assertEquals(10.5, map.get("cup"), 0.0);
+        Assertions.assertEquals(
+                this.company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue),
+                map);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void mostExpensiveItem()
+    {
+        ObjectDoubleMap<Customer> map = this.analytics().mostExpensiveItem();
+
+        Verify.assertSize(3, map);
+        Assertions.assertEquals(50.0, map.get(this.company.getCustomerNamed("Fred")), 0.0);
+        Assertions.assertEquals(50.0, map.get(this.company.getCustomerNamed("Bill")), 0.0);
+        Assertions.assertEquals(500.0, map.get(this.company.getCustomerNamed("Mary")), 0.0);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void batchSizeMustBePositive()
+    {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new CompanyAnalytics(this.company, this.executor, 0));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Collection;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The indexes kept by {@link Company} should give the same answers as scanning its customers.
+ */
+public class CompanyIndexesTest extends CompanyDomainForKata
+{
+    @Test
+    @Tag("SOLUTION")
+    public void getCustomerNamed()
+    {
+        this.company.getCustomers().each(customer ->
+                Assertions.assertSame(customer, this.company.getCustomerNamed(customer.getName())));
+        Assertions.assertNull(this.company.getCustomerNamed("Jane"));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void getCustomerNamedKeepsFirstCustomerWithDuplicateName()
+    {
+        Customer fred = this.company.getCustomerNamed("Fred");
+        Customer anotherFred = new Customer("Fred", "Liphook");
+        this.company.addCustomer(anotherFred);
+
+        Assertions.assertSame(fred, this.company.getCustomerNamed("Fred"));
+        Assertions.assertEquals(
+                Lists.mutable.with("Fred", "Mary", "Bill", "Fred"),
+                this.company.getCustomers().collect(Customer::getName));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void customersWhoOrdered()
+    {
+        Customer fred = this.company.getCustomerNamed("Fred");
+        Customer mary = this.company.getCustomerNamed("Mary");
+        Customer bill = this.company.getCustomerNamed("Bill");
+
+        Assertions.assertEquals(Sets.mutable.with(fred, mary), this.company.customersWhoOrdered("saucer"));
+        Assertions.assertEquals(Sets.mutable.with(fred, bill), this.company.customersWhoOrdered("table"));
+        Verify.assertEmpty(this.company.customersWhoOrdered("kettle"));
+        this.company.getCustomers().each(customer -> Assertions.assertEquals(
+                customer.getOrders().anySatisfyWith(Order::containsItemNamed, "saucer"),
+                customer.orderedItemNamed("saucer")));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void ordersContaining()
+    {
+        Verify.assertSize(2, this.company.ordersContaining("shed"));
+        Verify.assertSize(2, this.company.ordersContaining("table"));
+        Assertions.assertEquals(
+                this.company.getOrders().selectWith(Order::containsItemNamed, "table").toSet(),
+                this.company.ordersContaining("table"));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexFollowsLaterLineItems()
+    {
+        Customer mary = this.company.getCustomerNamed("Mary");
+        mary.getOrders().getFirst().addLineItem(new LineItem("kettle", 25.0));
+
+        Order order = new Order();
+        Customer jane = new Customer("Jane", "Liphook");
+        this.company.addCustomer(jane);
+        jane.addOrder(order);
+        order.addLineItems(new LineItem("kettle", 25.0), 2);
+
+        Assertions.assertEquals(Sets.mutable.with(mary, jane), this.company.customersWhoOrdered("kettle"));
+        Verify.assertSize(2, this.company.ordersContaining("kettle"));
+        Assertions.assertTrue(jane.orderedItemNamed("kettle"));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexSetsCannotBeModified()
+    {
+        Customer jane = new Customer("Jane", "Liphook");
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> ((Collection<Customer>) this.company.customersWhoOrdered("saucer")).add(jane));
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> ((Collection<Order>) this.company.ordersContaining("table")).clear());
+        Verify.assertSize(2, this.company.customersWhoOrdered("saucer"));
+        Verify.assertSize(2, this.company.ordersContaining("table"));
+    }
+}
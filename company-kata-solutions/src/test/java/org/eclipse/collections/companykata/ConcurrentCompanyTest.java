@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Stress tests for {@link ConcurrentCompany} using the parallelStream pattern from the lost and found kata's
+ * AbstractThreadSafeCollectionsTest.
+ */
+public class ConcurrentCompanyTest
+{
+    private static final int COUNT = 10_000;
+
+    private final ConcurrentCompany company = new ConcurrentCompany("Bloggs Shed Supplies");
+
+    private void assertThreadSafe(Consumer<Integer> consumer, IntSupplier supplier)
+    {
+        Interval.oneTo(COUNT).parallelStream().forEach(consumer);
+        Assertions.assertEquals(COUNT, supplier.getAsInt());
+    }
+
+    private static Order newOrder(String itemName)
+    {
+        Order order = new Order();
+        order.addLineItem(new LineItem(itemName, 1.5));
+        order.addLineItems(new LineItem("cup", 1.0), 2);
+        return order;
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void addCustomer()
+    {
+        this.assertThreadSafe(
+                each -> this.company.addCustomer(new Customer("Customer" + each, "London")),
+                () -> this.company.getCustomers().size());
+        Assertions.assertEquals("Customer42", this.company.getCustomerNamed("Customer42").getName());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void getOrAddCustomer()
+    {
+        Interval.oneTo(COUNT).parallelStream().forEach(
+                each -> this.company.getOrAddCustomer("Customer" + (each % 10), "London"));
+        Assertions.assertEquals(10, this.company.getCustomers().size());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void addOrder()
+    {
+        this.assertThreadSafe(
+                each -> this.company.addOrder(
+                        this.company.getOrAddCustomer("Customer" + (each % 100), "London"),
+                        newOrder(each % 2 == 0 ? "saucer" : "shed")),
+                () -> this.company.getOrders().size());
+
+        Assertions.assertEquals(COUNT * 3.5, this.company.getTotalRevenue(), 0.0);
+        Assertions.assertEquals(100, this.company.customersWhoOrdered("cup").size());
+        Assertions.assertEquals(50, this.company.customersWhoOrdered("saucer").size());
+        Assertions.assertEquals(COUNT / 2, this.company.ordersContaining("shed").size());
+        this.company.getCustomers().each(customer -> Assertions.assertEquals(
+                350.0,
+                this.company.withCustomer(customer, Customer::getTotalOrderValue),
+                0.0));
+    }
+}
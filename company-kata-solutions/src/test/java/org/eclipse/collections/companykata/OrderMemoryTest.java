@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.text.NumberFormat;
+
+import org.eclipse.collections.api.list.MultiReaderList;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.StringIterate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+public class OrderMemoryTest
+{
+    private static final String[] ITEM_NAMES =
+            {"shed", "big shed", "cup", "saucer", "bowl", "dog", "cat", "gnome", "table", "sofa", "chair", "kettle"};
+
+    private static final int ORDERS = 100;
+
+    private static MultiReaderList<Triple<String, Long, Long>> RESULTS =
+            Lists.multiReader.empty();
+
+    /**
+     * Measures {@link #ORDERS} orders of the same items and returns the size per order, so the columnar orders are
+     * charged their share of the item name dictionary that they share, as the orders of one company do.
+     */
+    private void recordTriple(String label, int distinctItems, int occurrences)
+    {
+        ItemNameDictionary itemNames = new ItemNameDictionary();
+        String[] names = new String[distinctItems];
+        for (int i = 0; i < distinctItems; i++)
+        {
+            names[i] = ITEM_NAMES[i % ITEM_NAMES.length] + i;
+        }
+        Order[] columnarOrders = new Order[ORDERS];
+        Order[] sortedBagOrders = new Order[ORDERS];
+        for (int order = 0; order < ORDERS; order++)
+        {
+            columnarOrders[order] = new ColumnarOrder(itemNames);
+            sortedBagOrders[order] = new Order();
+            for (int i = 0; i < distinctItems; i++)
+            {
+                columnarOrders[order].addLineItems(new LineItem(names[i], i + 0.5), occurrences);
+                sortedBagOrders[order].addLineItems(new LineItem(names[i], i + 0.5), occurrences);
+            }
+        }
+        long columnarSize = GraphLayout.parseInstance((Object[]) columnarOrders).totalSize() / ORDERS;
+        long sortedBagSize = GraphLayout.parseInstance((Object[]) sortedBagOrders).totalSize() / ORDERS;
+        Assertions.assertTrue(columnarSize < sortedBagSize);
+        RESULTS.add(Tuples.triple(label, columnarSize, sortedBagSize));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void twoItems()
+    {
+        this.recordTriple("2 x 1", 2, 1);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void tenDistinctItems()
+    {
+        this.recordTriple("10 x 1", 10, 1);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void repeatedItems()
+    {
+        this.recordTriple("3 x 50", 3, 50);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void hundredDistinctItems()
+    {
+        this.recordTriple("100 x 2", 100, 2);
+    }
+
+    @AfterAll
+    static void afterAll()
+    {
+        RESULTS.sortThisByLong(Triple::getTwo);
+        System.out.println(StringIterate.padOrTrim("Columnar vs. Sorted Bag Order", 49));
+        System.out.println(StringIterate.padOrTrim("Distinct items x occurrences, per order of " + ORDERS, 49));
+        System.out.println(StringIterate.repeat("-", 49));
+        System.out.println("                          " + StringIterate.padOrTrim("Columnar", 12) + " " + StringIterate.padOrTrim("Sorted Bag", 12));
+        RESULTS.each(triple -> System.out.println("Items: " + StringIterate.padOrTrim(triple.getOne(), 7)
+                + " Size (bytes): " + StringIterate.padOrTrim(NumberFormat.getInstance().format(triple.getTwo()), 12)
+                + " " + StringIterate.padOrTrim(NumberFormat.getInstance().format(triple.getThree()), 12)));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.bag.MutableBagIterable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The running totals kept by {@link Order}, {@link Customer} and {@link Company} should always match the totals
+ * computed from the line items.
+ */
+public class OrderValueTotalsTest extends CompanyDomainForKata
+{
+    @Test
+    @Tag("SOLUTION")
+    public void totalsMatchLineItems()
+    {
+        this.company.getOrders().each(order ->
+                Assertions.assertEquals(order.getLineItems().sumOfDouble(LineItem::getValue), order.getValue(), 0.0));
+        this.company.getCustomers().each(customer ->
+                Assertions.assertEquals(customer.getOrders().sumOfDouble(Order::getValue), customer.getTotalOrderValue(), 0.0));
+        Assertions.assertEquals(1303.25, this.company.getTotalRevenue(), 0.0);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void lineItemsAddedAfterOrderIsPlaced()
+    {
+        Customer fred = this.company.getCustomerNamed("Fred");
+        Order order = fred.getOrders().getFirst();
+
+        order.addLineItem(new LineItem("kettle", 25.0));
+        order.addLineItems(new LineItem("bowl", 2.5), 2);
+
+        Assertions.assertEquals(101.0, order.getValue(), 0.0);
+        Assertions.assertEquals(101.0, fred.getTotalOrderValue(), 0.0);
+        Assertions.assertEquals(1333.25, this.company.getTotalRevenue(), 0.0);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void ordersAndCustomersAddedLater()
+    {
+        Order order = new Order();
+        order.addLineItem(new LineItem("sofa", 120.0));
+        Customer jane = new Customer("Jane", "Liphook");
+        jane.addOrder(order);
+        this.company.addCustomer(jane);
+
+        Order secondOrder = new Order();
+        jane.addOrder(secondOrder);
+        secondOrder.addLineItems(new LineItem("gnome", 7.5), 2);
+
+        Assertions.assertEquals(135.0, jane.getTotalOrderValue(), 0.0);
+        Assertions.assertEquals(1438.25, this.company.getTotalRevenue(), 0.0);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void sameNameAtDifferentValues()
+    {
+        // Line items are compared by name, so a second cup is counted as more of the first cup, at its value
+        for (Order order : new Order[]{new Order(), new ColumnarOrder(this.company.getItemNames())})
+        {
+            order.addLineItem(new LineItem("cup", 1.0));
+            order.addLineItems(new LineItem("cup", 2.0), 2);
+
+            Assertions.assertEquals(3, order.getLineItems().occurrencesOf(new LineItem("cup", 2.0)));
+            Assertions.assertEquals(3.0, order.getLineItems().sumOfDouble(LineItem::getValue), 0.0);
+            Assertions.assertEquals(3.0, order.getValue(), 0.0);
+        }
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void lineItemsAreUnmodifiable()
+    {
+        Order order = this.company.getOrders().getFirst();
+        MutableBagIterable<LineItem> lineItems = (MutableBagIterable<LineItem>) order.getLineItems();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> lineItems.add(new LineItem("kettle", 25.0)));
+        Assertions.assertThrows(UnsupportedOperationException.class, lineItems::clear);
+    }
+}
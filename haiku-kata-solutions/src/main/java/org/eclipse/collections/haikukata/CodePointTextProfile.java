@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import org.eclipse.collections.api.bag.primitive.ImmutableIntBag;
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.tuple.primitive.IntIntPair;
+import org.eclipse.collections.impl.factory.primitive.IntBags;
+import org.eclipse.collections.impl.string.immutable.CodePointAdapter;
+
+/**
+ * The letter statistics of {@link TextProfile}, counted by Unicode code point instead of by UTF-16 char.
+ * <p/>
+ * A letter outside the Basic Multilingual Plane is stored as a surrogate pair and would be counted as two chars by
+ * {@link TextProcessorEC}. Here each pair is combined into one code point before it is tested with
+ * {@link Character#isAlphabetic(int)} and lowercased with {@link Character#toLowerCase(int)}, which gives the same
+ * results as {@code CodePointAdapter.adapt(text).select(Character::isAlphabetic).collectInt(Character::toLowerCase)}.
+ * Chars below 256 never start a surrogate pair and stay below 256 when lowercased, so they are looked up in a table and
+ * counted in an {@code int[256]}, as are other letters that lowercase to Latin-1. Only the remaining letters go through
+ * the {@link MutableIntBag}, so pure Latin-1 text never touches the bag until the counts are copied into it at the end.
+ */
+public final class CodePointTextProfile
+{
+    private static final int LATIN_1 = 256;
+    private static final int[] LATIN_1_LETTERS = new int[LATIN_1];
+    private static final String VOWELS = "aeiou";
+
+    static
+    {
+        for (int i = 0; i < LATIN_1; i++)
+        {
+            LATIN_1_LETTERS[i] = Character.isAlphabetic(i) ? Character.toLowerCase(i) : -1;
+        }
+    }
+
+    private final ImmutableIntBag letters;
+    private final ImmutableIntBag duplicates;
+    private final ImmutableIntSet unique;
+    private final String distinctLetters;
+    private final ImmutableList<IntIntPair> letterOccurrences;
+    private final ImmutableList<IntIntPair> topLetters;
+    private final int topVowel;
+    private final int topConsonant;
+
+    private CodePointTextProfile(CharSequence text)
+    {
+        int[] latin1Counts = new int[LATIN_1];
+        MutableIntBag letters = IntBags.mutable.empty();
+        StringBuilder firstSeen = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i < length; i++)
+        {
+            char each = text.charAt(i);
+            if (each < LATIN_1)
+            {
+                int letter = LATIN_1_LETTERS[each];
+                if (letter >= 0 && latin1Counts[letter]++ == 0)
+                {
+                    firstSeen.append((char) letter);
+                }
+            }
+            else
+            {
+                int codePoint = Character.codePointAt(text, i);
+                i += Character.charCount(codePoint) - 1;
+                if (Character.isAlphabetic(codePoint))
+                {
+                    int letter = Character.toLowerCase(codePoint);
+                    if (letter < LATIN_1)
+                    {
+                        if (latin1Counts[letter]++ == 0)
+                        {
+                            firstSeen.append((char) letter);
+                        }
+                    }
+                    else
+                    {
+                        if (!letters.contains(letter))
+                        {
+                            firstSeen.appendCodePoint(letter);
+                        }
+                        letters.add(letter);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < LATIN_1; i++)
+        {
+            if (latin1Counts[i] > 0)
+            {
+                letters.addOccurrences(i, latin1Counts[i]);
+            }
+        }
+        this.letters = letters.toImmutable();
+        this.duplicates = letters.selectDuplicates().toImmutable();
+        this.unique = letters.selectUnique().toImmutable();
+        this.distinctLetters = firstSeen.toString();
+        this.letterOccurrences = letters.topOccurrences(letters.sizeDistinct()).toImmutable();
+        this.topLetters = letters.topOccurrences(3).toImmutable();
+        this.topVowel = topLetter(this.letterOccurrences, true);
+        this.topConsonant = topLetter(this.letterOccurrences, false);
+    }
+
+    public static CodePointTextProfile of(CharSequence text)
+    {
+        return new CodePointTextProfile(text);
+    }
+
+    public static CodePointTextProfile of(CodePointAdapter text)
+    {
+        return new CodePointTextProfile(text.toString());
+    }
+
+    private static boolean isVowel(int letter)
+    {
+        return VOWELS.indexOf(letter) >= 0;
+    }
+
+    private static int topLetter(ImmutableList<IntIntPair> occurrences, boolean vowel)
+    {
+        IntIntPair top = occurrences.detect(pair -> isVowel(pair.getOne()) == vowel);
+        return top == null ? -1 : top.getOne();
+    }
+
+    /**
+     * Returns the count of each alphabetic code point in lowercase.
+     */
+    public ImmutableIntBag getLetters()
+    {
+        return this.letters;
+    }
+
+    public ImmutableIntBag getDuplicates()
+    {
+        return this.duplicates;
+    }
+
+    public ImmutableIntSet getUnique()
+    {
+        return this.unique;
+    }
+
+    /**
+     * Returns each distinct letter in lowercase, in the order it first appears in the text.
+     */
+    public String getDistinctLetters()
+    {
+        return this.distinctLetters;
+    }
+
+    /**
+     * Returns every distinct letter with its count, most frequent first.
+     */
+    public ImmutableList<IntIntPair> getLetterOccurrences()
+    {
+        return this.letterOccurrences;
+    }
+
+    /**
+     * Returns the three most frequent letters, or more if there are ties for third place.
+     */
+    public ImmutableList<IntIntPair> getTopLetters()
+    {
+        return this.topLetters;
+    }
+
+    /**
+     * Returns the code point of the most frequent vowel, or -1 if the text has no vowels.
+     */
+    public int getTopVowel()
+    {
+        return this.topVowel;
+    }
+
+    /**
+     * Returns the code point of the most frequent consonant, or -1 if the text has no consonants.
+     */
+    public int getTopConsonant()
+    {
+        return this.topConsonant;
+    }
+}
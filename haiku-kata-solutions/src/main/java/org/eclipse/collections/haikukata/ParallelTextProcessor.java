@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.api.tuple.primitive.CharCharPair;
+import org.eclipse.collections.api.tuple.primitive.CharIntPair;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * Answers the letter questions of {@link TextProcessorEC} by counting letters on several threads.
+ * <p/>
+ * The text is split into {@link #getChunkCount()} chunks that are counted in parallel through
+ * {@link MutableList#asParallel(ExecutorService, int)}. Each chunk counts the letters that lowercase to ASCII in an
+ * {@code int[26]} histogram and any other alphabetic chars in its own {@link MutableCharBag}, and records the order in
+ * which it first sees each letter. The histograms are merged into one {@link MutableCharBag} in chunk order, which
+ * also gives the first-seen order for the whole text.
+ */
+public class ParallelTextProcessor
+{
+    private final CharSequence text;
+    private final ExecutorService executor;
+    private final int chunkCount;
+
+    public ParallelTextProcessor(CharSequence text)
+    {
+        this(text, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelTextProcessor(CharSequence text, ExecutorService executor, int chunkCount)
+    {
+        if (chunkCount < 1)
+        {
+            throw new IllegalArgumentException("Chunk count must be positive: " + chunkCount);
+        }
+        this.text = text;
+        this.executor = executor;
+        this.chunkCount = chunkCount;
+    }
+
+    public int getChunkCount()
+    {
+        return this.chunkCount;
+    }
+
+    public ListIterable<CharIntPair> topLetters()
+    {
+        return this.countLetters().letters.topOccurrences(3);
+    }
+
+    public String distinctLetters()
+    {
+        return this.countLetters().firstSeen.toString();
+    }
+
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUnique()
+    {
+        MutableCharBag chars = this.countLetters().letters;
+        return Tuples.triple(chars, chars.selectDuplicates(), chars.selectUnique());
+    }
+
+    /**
+     * Returns the most frequent vowel and consonant, each {@link Character#MIN_VALUE} if the text has none.
+     */
+    public CharCharPair topVowelAndConsonant()
+    {
+        return TextProfile.topVowelAndConsonant(this.countLetters().letters);
+    }
+
+    private LetterCounts countLetters()
+    {
+        int length = this.text.length();
+        int chunkSize = Math.max(1, (length + this.chunkCount - 1) / this.chunkCount);
+        int chunks = (length + chunkSize - 1) / chunkSize;
+        LetterCounts result = new LetterCounts();
+        if (chunks == 0)
+        {
+            return result;
+        }
+        Interval.zeroTo(chunks - 1)
+                .toList()
+                .asParallel(this.executor, 1)
+                .collect(chunk -> LetterCounts.count(this.text, chunk * chunkSize, Math.min(length, (chunk + 1) * chunkSize)))
+                .toList()
+                .each(result::merge);
+        return result;
+    }
+
+    private static final class LetterCounts
+    {
+        private final int[] asciiCounts = new int[26];
+        private final MutableCharBag letters = CharBags.mutable.empty();
+        private final StringBuilder firstSeen = new StringBuilder();
+
+        private static LetterCounts count(CharSequence text, int from, int to)
+        {
+            LetterCounts counts = new LetterCounts();
+            int[] ascii = counts.asciiCounts;
+            for (int i = from; i < to; i++)
+            {
+                char each = text.charAt(i);
+                int index = -1;
+                if (each < 128)
+                {
+                    index = (each | 0x20) - 'a';
+                }
+                else if (Character.isAlphabetic(each))
+                {
+                    char letter = Character.toLowerCase(each);
+                    if (letter < 128)
+                    {
+                        // A few letters lowercase to ASCII, such as KELVIN SIGN to 'k', and are counted with it
+                        index = letter - 'a';
+                    }
+                    else
+                    {
+                        if (!counts.letters.contains(letter))
+                        {
+                            counts.firstSeen.append(letter);
+                        }
+                        counts.letters.add(letter);
+                    }
+                }
+                if (index >= 0 && index < 26 && ascii[index]++ == 0)
+                {
+                    counts.firstSeen.append((char) ('a' + index));
+                }
+            }
+            for (int i = 0; i < 26; i++)
+            {
+                if (ascii[i] > 0)
+                {
+                    counts.letters.addOccurrences((char) ('a' + i), ascii[i]);
+                }
+            }
+            return counts;
+        }
+
+        private void merge(LetterCounts chunk)
+        {
+            for (int i = 0; i < chunk.firstSeen.length(); i++)
+            {
+                char letter = chunk.firstSeen.charAt(i);
+                if (!this.letters.contains(letter))
+                {
+                    this.firstSeen.append(letter);
+                }
+            }
+            chunk.letters.forEachWithOccurrences(this.letters::addOccurrences);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.api.tuple.primitive.CharCharPair;
+import org.eclipse.collections.api.tuple.primitive.CharIntPair;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * Answers the letter questions of {@link TextProcessorEC} for UTF-8 text of any size.
+ * <p/>
+ * The text is decoded in chunks into one reusable {@link CharBuffer}. Files are memory-mapped one region at a time
+ * and other input is read through a fixed size buffer. The alphabetic letters are counted in lowercase into a
+ * {@link MutableCharBag} as they are decoded, and the order in which each letter is first seen is recorded. Memory
+ * use depends on the chunk size and the number of distinct letters, not on the size of the text, so multi-GB files
+ * can be processed. The text is read once, when the processor is created.
+ */
+public final class StreamingTextProcessor
+{
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final MutableCharBag letters = CharBags.mutable.empty();
+    private final StringBuilder distinctLetters = new StringBuilder();
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer chars;
+
+    private StreamingTextProcessor(int chunkSize)
+    {
+        if (chunkSize < 4)
+        {
+            throw new IllegalArgumentException("Chunk size must be at least 4 bytes: " + chunkSize);
+        }
+        this.chars = CharBuffer.allocate(chunkSize);
+    }
+
+    public static StreamingTextProcessor fromFile(Path path) throws IOException
+    {
+        return fromFile(path, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Maps the file {@code chunkSize} bytes at a time. A character split across two regions is decoded from the start
+     * of the next region.
+     */
+    public static StreamingTextProcessor fromFile(Path path, int chunkSize) throws IOException
+    {
+        StreamingTextProcessor processor = new StreamingTextProcessor(chunkSize);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            long position = 0L;
+            while (position < size)
+            {
+                long length = Math.min(chunkSize, size - position);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean last = position + length == size;
+                processor.decode(region, last);
+                if (!last && region.position() == 0)
+                {
+                    throw new IOException("Could not decode any characters at byte " + position);
+                }
+                position += region.position();
+            }
+        }
+        processor.finish();
+        return processor;
+    }
+
+    public static StreamingTextProcessor fromStream(InputStream stream) throws IOException
+    {
+        return fromStream(stream, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Reads the stream {@code chunkSize} bytes at a time. The stream is not closed.
+     */
+    public static StreamingTextProcessor fromStream(InputStream stream, int chunkSize) throws IOException
+    {
+        StreamingTextProcessor processor = new StreamingTextProcessor(chunkSize);
+        ReadableByteChannel channel = Channels.newChannel(stream);
+        ByteBuffer bytes = ByteBuffer.allocate(chunkSize);
+        while (channel.read(bytes) >= 0)
+        {
+            bytes.flip();
+            processor.decode(bytes, false);
+            bytes.compact();
+        }
+        bytes.flip();
+        processor.decode(bytes, true);
+        processor.finish();
+        return processor;
+    }
+
+    private void decode(ByteBuffer bytes, boolean endOfInput)
+    {
+        CoderResult result = this.decoder.decode(bytes, this.chars, endOfInput);
+        while (result.isOverflow())
+        {
+            this.countLetters();
+            result = this.decoder.decode(bytes, this.chars, endOfInput);
+        }
+    }
+
+    private void finish()
+    {
+        this.decode(ByteBuffer.allocate(0), true);
+        while (this.decoder.flush(this.chars).isOverflow())
+        {
+            this.countLetters();
+        }
+        this.countLetters();
+    }
+
+    private void countLetters()
+    {
+        this.chars.flip();
+        while (this.chars.hasRemaining())
+        {
+            char each = this.chars.get();
+            if (Character.isAlphabetic(each))
+            {
+                char letter = Character.toLowerCase(each);
+                if (!this.letters.contains(letter))
+                {
+                    this.distinctLetters.append(letter);
+                }
+                this.letters.add(letter);
+            }
+        }
+        this.chars.clear();
+    }
+
+    public CharBag getLetters()
+    {
+        return this.letters.asUnmodifiable();
+    }
+
+    public ListIterable<CharIntPair> topLetters()
+    {
+        return this.letters.topOccurrences(3);
+    }
+
+    public String distinctLetters()
+    {
+        return this.distinctLetters.toString();
+    }
+
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUnique()
+    {
+        return Tuples.triple(this.getLetters(), this.letters.selectDuplicates(), this.letters.selectUnique());
+    }
+
+    /**
+     * Returns the most frequent vowel and consonant, each {@link Character#MIN_VALUE} if the text has none.
+     */
+    public CharCharPair topVowelAndConsonant()
+    {
+        return TextProfile.topVowelAndConsonant(this.letters);
+    }
+}
@@ -11,7 +11,6 @@
 package org.eclipse.collections.haikukata;
 
 import org.eclipse.collections.api.bag.primitive.CharBag;
-import org.eclipse.collections.api.bag.primitive.MutableCharBag;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
@@ -28,6 +27,8 @@ import org.eclipse.collections.impl.utility.StringIterate;
 
 public class TextProcessorEC
 {
+    private TextProfile profile;
+
     private String getHaiku()
     {
         return new HaikuCollection().getText();
@@ -39,57 +40,40 @@ public class TextProcessorEC
         return CharAdapter.adapt(this.getHaiku());
     }
 
-    public ListIterable<CharIntPair> topLetters()
+    /**
+     * Returns the statistics for the haiku, computed in one pass the first time any of the letter questions is asked.
+     */
+    public TextProfile getProfile()
     {
-        // TODO: Collect the alphabetic chars from this.getHaikuAsCharAdapter() to lowercase into a CharBag
-        // Hint: Look at select, collectChar and toBag
-        CharBag chars = null;
+        TextProfile result = this.profile;
+        if (result == null)
+        {
+            result = TextProfile.of(this.getHaikuAsCharAdapter());
+            this.profile = result;
+        }
+        return result;
+    }
 
-        // TODO: Return the top three occurrences of the letters in the CharBag
-        return null;
+    public ListIterable<CharIntPair> topLetters()
+    {
+        return this.getProfile().getTopLetters();
     }
 
     public String distinctLetters()
     {
-        // TODO: Return all of the distinct alphabetic letters from this.getHaikuAsCharAdapter() converted to lowercase as a String
-        // Note: The letters should be returned in encounter order from the original Haiku String
-        // Hint: Look at select, collectChar, distinct and toString
-        return null;
+        return this.getProfile().getDistinctLetters();
     }
 
     public Triple<CharBag, CharBag, CharSet> duplicatesAndUnique()
     {
-        // Find all of the alphabetic letters, convert them to lowercase
-        MutableCharBag chars = this.getHaikuAsCharAdapter()
-                                .select(Character::isAlphabetic)
-                                .collectChar(Character::toLowerCase)
-                                .toBag();
-
-        // Find all the chars with duplicates
-        CharBag duplicates = chars.selectDuplicates();
-
-        // Find all the unique chars
-        CharSet unique = chars.selectUnique();
-
-        return Tuples.triple(chars, duplicates, unique);
+        TextProfile profile = this.getProfile();
+        return Tuples.triple(profile.getLetters(), profile.getDuplicates(), profile.getUnique());
     }
 
     public CharCharPair topVowelAndConsonant()
     {
-        // TODO: Find all of the alphabetic letters from this.getHaikuAsCharAdapter(), convert them to lowercase,
-        // TODO: put them in a bag and then get the top 26 occurrences
-        // Hint: Look at select, collectChar, toBag, and topOccurrences
-        // Bonus: See if the same solution will work using asLazy
-        MutableList<CharIntPair> charIntPairs = null;
-
-        // TODO: Find the top vowel
-        // Hint: Use the detect method on MutableList with the isVowel method below to find the top vowel char value
-        char topVowel = 'a';
-        // TODO: Find the top consonant
-        // Hint: Use the detect method on MutableList with the isVowel method below to find the top consonant char value
-        char topConsonant = 'b';
-
-        return PrimitiveTuples.pair(topVowel, topConsonant);
+        TextProfile profile = this.getProfile();
+        return PrimitiveTuples.pair(profile.getTopVowel(), profile.getTopConsonant());
     }
 
     public boolean isVowel(char character)
@@ -100,7 +84,7 @@ public class TextProcessorEC
     public MutableSet<String> findWordleWords()
     {
         MutableList<String> words = Lists.mutable.empty();
-        StringIterate.forEachToken(this.getHaiku(), " ,.-!?\t\n\r\f", words::add);
+        StringIterate.forEachToken(this.getHaiku(), TextProfile.WORD_DELIMITERS, words::add);
         // TODO: Filter out the five letter words from the MutableList<String> named words
         MutableList<String> fiveLetterWords = words.select(word -> word.length() == 5);
         // TODO: Exclude contractions, and convert the words to lowercase
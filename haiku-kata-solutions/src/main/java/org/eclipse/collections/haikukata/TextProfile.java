@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.bag.primitive.ImmutableCharBag;
+import org.eclipse.collections.api.bag.primitive.ImmutableIntBag;
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.primitive.ImmutableCharSet;
+import org.eclipse.collections.api.tuple.primitive.CharCharPair;
+import org.eclipse.collections.api.tuple.primitive.CharIntPair;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.factory.primitive.IntBags;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * The letter and word statistics of a text, computed in a single pass over its chars.
+ * <p/>
+ * Alphabetic chars are counted in lowercase, those that lowercase to an ASCII letter in an {@code int[26]} and any
+ * others in a {@link MutableCharBag}, while the order in which each letter is first seen, the number of vowels and
+ * consonants and the length of each word are recorded. Words are separated by the same delimiters as
+ * {@link TextProcessorEC#findWordleWords()}. Everything the {@link TextProcessorEC} questions need is derived once in
+ * the constructor, so a profile is immutable and every accessor is a field read.
+ */
+public final class TextProfile
+{
+    public static final String WORD_DELIMITERS = " ,.-!?\t\n\r\f";
+
+    private static final String VOWELS = "aeiou";
+
+    private final ImmutableCharBag letters;
+    private final ImmutableCharBag duplicates;
+    private final ImmutableCharSet unique;
+    private final String distinctLetters;
+    private final ImmutableList<CharIntPair> letterOccurrences;
+    private final ImmutableList<CharIntPair> topLetters;
+    private final char topVowel;
+    private final char topConsonant;
+    private final int vowelCount;
+    private final int consonantCount;
+    private final ImmutableIntBag wordLengths;
+
+    private TextProfile(CharSequence text)
+    {
+        int[] asciiCounts = new int[26];
+        MutableCharBag letters = CharBags.mutable.empty();
+        StringBuilder firstSeen = new StringBuilder();
+        MutableIntBag wordLengths = IntBags.mutable.empty();
+        int vowels = 0;
+        int wordLength = 0;
+        for (int i = 0; i < text.length(); i++)
+        {
+            char each = text.charAt(i);
+            if (WORD_DELIMITERS.indexOf(each) >= 0)
+            {
+                if (wordLength > 0)
+                {
+                    wordLengths.add(wordLength);
+                    wordLength = 0;
+                }
+                continue;
+            }
+            wordLength++;
+            int index = -1;
+            if (each < 128)
+            {
+                index = (each | 0x20) - 'a';
+            }
+            else if (Character.isAlphabetic(each))
+            {
+                char letter = Character.toLowerCase(each);
+                if (letter < 128)
+                {
+                    // A few letters lowercase to ASCII, such as KELVIN SIGN to 'k', and are counted with it
+                    index = letter - 'a';
+                }
+                else
+                {
+                    if (!letters.contains(letter))
+                    {
+                        firstSeen.append(letter);
+                    }
+                    letters.add(letter);
+                }
+            }
+            if (index >= 0 && index < 26)
+            {
+                if (asciiCounts[index]++ == 0)
+                {
+                    firstSeen.append((char) ('a' + index));
+                }
+                if (VOWELS.indexOf('a' + index) >= 0)
+                {
+                    vowels++;
+                }
+            }
+        }
+        if (wordLength > 0)
+        {
+            wordLengths.add(wordLength);
+        }
+
+        for (int i = 0; i < 26; i++)
+        {
+            if (asciiCounts[i] > 0)
+            {
+                letters.addOccurrences((char) ('a' + i), asciiCounts[i]);
+            }
+        }
+        this.letters = letters.toImmutable();
+        this.duplicates = letters.selectDuplicates().toImmutable();
+        this.unique = letters.selectUnique().toImmutable();
+        this.distinctLetters = firstSeen.toString();
+        this.letterOccurrences = letters.topOccurrences(letters.sizeDistinct()).toImmutable();
+        this.topLetters = letters.topOccurrences(3).toImmutable();
+        this.topVowel = topLetter(this.letterOccurrences, true);
+        this.topConsonant = topLetter(this.letterOccurrences, false);
+        this.vowelCount = vowels;
+        this.consonantCount = letters.size() - vowels;
+        this.wordLengths = wordLengths.toImmutable();
+    }
+
+    public static TextProfile of(CharSequence text)
+    {
+        return new TextProfile(text);
+    }
+
+    private static boolean isVowel(char letter)
+    {
+        return VOWELS.indexOf(letter) >= 0;
+    }
+
+    /**
+     * Returns the most frequent vowel and consonant in a bag of lowercase letters, each {@link Character#MIN_VALUE} if
+     * the bag has none, for the processors that count letters without building a profile.
+     */
+    static CharCharPair topVowelAndConsonant(CharBag letters)
+    {
+        ListIterable<CharIntPair> occurrences = letters.topOccurrences(letters.sizeDistinct());
+        return PrimitiveTuples.pair(topLetter(occurrences, true), topLetter(occurrences, false));
+    }
+
+    private static char topLetter(ListIterable<CharIntPair> occurrences, boolean vowel)
+    {
+        CharIntPair top = occurrences.detect(pair -> isVowel(pair.getOne()) == vowel);
+        return top == null ? Character.MIN_VALUE : top.getOne();
+    }
+
+    /**
+     * Returns the count of each alphabetic char in lowercase.
+     */
+    public ImmutableCharBag getLetters()
+    {
+        return this.letters;
+    }
+
+    public ImmutableCharBag getDuplicates()
+    {
+        return this.duplicates;
+    }
+
+    public ImmutableCharSet getUnique()
+    {
+        return this.unique;
+    }
+
+    /**
+     * Returns each distinct letter in lowercase, in the order it first appears in the text.
+     */
+    public String getDistinctLetters()
+    {
+        return this.distinctLetters;
+    }
+
+    /**
+     * Returns every distinct letter with its count, most frequent first.
+     */
+    public ImmutableList<CharIntPair> getLetterOccurrences()
+    {
+        return this.letterOccurrences;
+    }
+
+    /**
+     * Returns the three most frequent letters, or more if there are ties for third place.
+     */
+    public ImmutableList<CharIntPair> getTopLetters()
+    {
+        return this.topLetters;
+    }
+
+    /**
+     * Returns the most frequent vowel, or {@link Character#MIN_VALUE} if the text has no vowels.
+     */
+    public char getTopVowel()
+    {
+        return this.topVowel;
+    }
+
+    /**
+     * Returns the most frequent consonant, or {@link Character#MIN_VALUE} if the text has no consonants.
+     */
+    public char getTopConsonant()
+    {
+        return this.topConsonant;
+    }
+
+    public int getVowelCount()
+    {
+        return this.vowelCount;
+    }
+
+    /**
+     * Returns the number of letters that are not one of the five vowels, including non-ASCII letters.
+     */
+    public int getConsonantCount()
+    {
+        return this.consonantCount;
+    }
+
+    /**
+     * Returns the number of words of each length.
+     */
+    public ImmutableIntBag getWordLengths()
+    {
+        return this.wordLengths;
+    }
+}
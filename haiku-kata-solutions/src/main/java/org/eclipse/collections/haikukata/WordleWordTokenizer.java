@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+
+/**
+ * Finds the same Wordle words as {@link TextProcessorEC#findWordleWords()} without creating a String for every token.
+ * <p/>
+ * The chars are scanned once for tokens separated by {@link TextProfile#WORD_DELIMITERS}, and only tokens of
+ * {@link #WORD_LENGTH} chars without an apostrophe are looked at. A candidate is lowercased into a small buffer and,
+ * when it is made of the letters a to z, packed into an int with five bits per letter. Each packed word is added to an
+ * {@link MutableIntSet}, so a word that appears many times is only turned into a String the first time it is seen.
+ */
+public final class WordleWordTokenizer
+{
+    public static final int WORD_LENGTH = 5;
+
+    private static final boolean[] DELIMITERS = new boolean[128];
+
+    static
+    {
+        TextProfile.WORD_DELIMITERS.chars().forEach(each -> DELIMITERS[each] = true);
+    }
+
+    private WordleWordTokenizer()
+    {
+    }
+
+    public static MutableSet<String> findWordleWords(char[] text)
+    {
+        return findWordleWords(text, 0, text.length);
+    }
+
+    /**
+     * Returns the distinct five char words between {@code from} inclusive and {@code to} exclusive that are not
+     * contractions, in lowercase.
+     */
+    public static MutableSet<String> findWordleWords(char[] text, int from, int to)
+    {
+        MutableSet<String> words = Sets.mutable.empty();
+        MutableIntSet packedWords = IntSets.mutable.empty();
+        char[] buffer = new char[WORD_LENGTH];
+        int start = from;
+        for (int i = from; i <= to; i++)
+        {
+            if (i == to || isDelimiter(text[i]))
+            {
+                if (i - start == WORD_LENGTH)
+                {
+                    addCandidate(text, start, buffer, words, packedWords);
+                }
+                start = i + 1;
+            }
+        }
+        return words;
+    }
+
+    private static void addCandidate(
+            char[] text,
+            int start,
+            char[] buffer,
+            MutableSet<String> words,
+            MutableIntSet packedWords)
+    {
+        int packed = 0;
+        boolean packable = true;
+        for (int i = 0; i < WORD_LENGTH; i++)
+        {
+            char each = text[start + i];
+            if (each == '\'')
+            {
+                return;
+            }
+            char letter = Character.toLowerCase(each);
+            buffer[i] = letter;
+            if (letter >= 'a' && letter <= 'z')
+            {
+                packed |= (letter - 'a') << (i * 5);
+            }
+            else
+            {
+                packable = false;
+            }
+        }
+        if (!packable || packedWords.add(packed))
+        {
+            words.add(new String(buffer));
+        }
+    }
+
+    private static boolean isDelimiter(char each)
+    {
+        return each < 128 && DELIMITERS[each];
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.impl.factory.primitive.IntBags;
+import org.eclipse.collections.impl.string.immutable.CodePointAdapter;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CodePointTextProfileTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void haiku()
+    {
+        CodePointTextProfile profile = CodePointTextProfile.of(CodePointAdapter.adapt(new HaikuCollection().getText()));
+        TextProfile charProfile = new TextProcessorEC().getProfile();
+
+        Assertions.assertEquals(PrimitiveTuples.pair('e', 94), charProfile.getTopLetters().get(0));
+        Assertions.assertEquals(PrimitiveTuples.pair((int) 'e', 94), profile.getTopLetters().get(0));
+        Assertions.assertEquals(PrimitiveTuples.pair((int) 't', 65), profile.getTopLetters().get(1));
+        Assertions.assertEquals(PrimitiveTuples.pair((int) 'i', 62), profile.getTopLetters().get(2));
+        Assertions.assertEquals(charProfile.getDistinctLetters(), profile.getDistinctLetters());
+        Assertions.assertEquals(charProfile.getLetters().size(), profile.getLetters().size());
+        Assertions.assertEquals('e', profile.getTopVowel());
+        Assertions.assertEquals('t', profile.getTopConsonant());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void supplementaryLetters()
+    {
+        // U+10400 DESERET CAPITAL LONG I lowercases to U+10428, which is stored as a surrogate pair
+        String text = "𐐀𐐨𐐀 Àà İKK 1 😀!";
+        CodePointTextProfile profile = CodePointTextProfile.of(text);
+
+        MutableIntBag expected = CodePointAdapter.adapt(text)
+                .select(Character::isAlphabetic)
+                .collectInt(Character::toLowerCase)
+                .toBag();
+        Assertions.assertEquals(expected, profile.getLetters());
+        Assertions.assertEquals(IntBags.immutable.with(0x10428, 0x10428, 0x10428, 'à', 'à', 'i', 'k', 'k'), profile.getLetters());
+        Assertions.assertEquals("𐐨àik", profile.getDistinctLetters());
+        Assertions.assertEquals('i', profile.getTopVowel());
+        Assertions.assertEquals(0x10428, profile.getTopConsonant());
+        Assertions.assertEquals(-1, CodePointTextProfile.of("42").getTopVowel());
+    }
+}
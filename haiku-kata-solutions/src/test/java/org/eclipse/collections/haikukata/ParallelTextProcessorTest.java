@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.api.tuple.primitive.CharCharPair;
+import org.eclipse.collections.api.tuple.primitive.CharIntPair;
+import org.eclipse.collections.impl.factory.primitive.CharSets;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTextProcessorTest
+{
+    private static final String HAIKU = new HaikuCollection().getText();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void haikuAnswers()
+    {
+        IntLists.immutable.with(1, 2, 3, 7, 64, HAIKU.length() + 5).forEach(chunkCount -> {
+            ParallelTextProcessor processor = new ParallelTextProcessor(HAIKU, this.executor, chunkCount);
+
+            ListIterable<CharIntPair> top3 = processor.topLetters();
+            Assertions.assertEquals(PrimitiveTuples.pair('e', 94), top3.get(0));
+            Assertions.assertEquals(PrimitiveTuples.pair('t', 65), top3.get(1));
+            Assertions.assertEquals(PrimitiveTuples.pair('i', 62), top3.get(2));
+
+            Assertions.assertEquals("breakingthoupvmwcdflsy", processor.distinctLetters());
+
+            Triple<CharBag, CharBag, CharSet> triple = processor.duplicatesAndUnique();
+            Assertions.assertEquals(new TextProcessorEC().duplicatesAndUnique().getOne(), triple.getOne());
+            Assertions.assertEquals(triple.getOne(), triple.getTwo());
+            Assertions.assertEquals(CharSets.immutable.empty(), triple.getThree());
+
+            CharCharPair vowelAndConsonant = processor.topVowelAndConsonant();
+            Assertions.assertEquals('e', vowelAndConsonant.getOne());
+            Assertions.assertEquals('t', vowelAndConsonant.getTwo());
+        });
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void nonAsciiLetters()
+    {
+        String text = "Ça déborde, Éric! Ωmega ωμέγα 42";
+        ParallelTextProcessor processor = new ParallelTextProcessor(text, this.executor, 5);
+
+        Assertions.assertEquals(
+                CharAdapter.adapt(text).select(Character::isAlphabetic).collectChar(Character::toLowerCase).toBag(),
+                processor.duplicatesAndUnique().getOne());
+        Assertions.assertEquals(
+                CharAdapter.adapt(text).select(Character::isAlphabetic).collectChar(Character::toLowerCase).distinct().toString(),
+                processor.distinctLetters());
+        Assertions.assertEquals("", new ParallelTextProcessor("", this.executor, 3).distinctLetters());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void topVowelAndConsonantWhenMissing()
+    {
+        Assertions.assertEquals(
+                PrimitiveTuples.pair(Character.MIN_VALUE, Character.MIN_VALUE),
+                new ParallelTextProcessor("", this.executor, 4).topVowelAndConsonant());
+        Assertions.assertEquals(
+                PrimitiveTuples.pair(Character.MIN_VALUE, 'h'),
+                new ParallelTextProcessor("rhythm h", this.executor, 4).topVowelAndConsonant());
+        Assertions.assertEquals(
+                PrimitiveTuples.pair('a', Character.MIN_VALUE),
+                new ParallelTextProcessor("aaa e", this.executor, 4).topVowelAndConsonant());
+
+        // More than 26 letters occur more often than the only vowel
+        StringBuilder cyrillic = new StringBuilder();
+        for (char letter = '\u0430'; letter <= '\u044F'; letter++)
+        {
+            cyrillic.append(letter).append(letter);
+        }
+        Assertions.assertEquals('a', new ParallelTextProcessor(cyrillic + " a", this.executor, 4).topVowelAndConsonant().getOne());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void lettersThatLowercaseToAscii()
+    {
+        // KELVIN SIGN lowercases to 'k' and LATIN CAPITAL LETTER I WITH DOT ABOVE to 'i'
+        String text = "\u212Aitten kit\u0130";
+        IntLists.immutable.with(1, 2, 3, 7).forEach(chunkCount -> {
+            ParallelTextProcessor processor = new ParallelTextProcessor(text, this.executor, chunkCount);
+
+            Assertions.assertEquals("kiten", processor.distinctLetters());
+            Assertions.assertEquals(TextProfile.of(text).getLetters(), processor.duplicatesAndUnique().getOne());
+        });
+    }
+}
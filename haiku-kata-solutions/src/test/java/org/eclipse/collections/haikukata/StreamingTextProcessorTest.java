@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.api.tuple.primitive.CharCharPair;
+import org.eclipse.collections.api.tuple.primitive.CharIntPair;
+import org.eclipse.collections.impl.factory.primitive.CharSets;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs the questions from {@link TextProcessorECTest} against the haiku text read from a file and from a stream, with
+ * chunk sizes small enough to split the multi-byte characters in the text.
+ */
+public class StreamingTextProcessorTest
+{
+    private static final byte[] HAIKU = new HaikuCollection().getText().getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private Path haikuFile() throws IOException
+    {
+        return Files.write(this.directory.resolve("haiku.txt"), HAIKU);
+    }
+
+    private void assertHaikuAnswers(StreamingTextProcessor processor)
+    {
+        ListIterable<CharIntPair> top3 = processor.topLetters();
+        Assertions.assertEquals(PrimitiveTuples.pair('e', 94), top3.get(0));
+        Assertions.assertEquals(PrimitiveTuples.pair('t', 65), top3.get(1));
+        Assertions.assertEquals(PrimitiveTuples.pair('i', 62), top3.get(2));
+
+        Assertions.assertEquals("breakingthoupvmwcdflsy", processor.distinctLetters());
+
+        Triple<CharBag, CharBag, CharSet> triple = processor.duplicatesAndUnique();
+        Assertions.assertEquals(triple.getOne(), triple.getTwo());
+        Assertions.assertEquals(CharSets.immutable.empty(), triple.getThree());
+        Assertions.assertEquals(new TextProcessorEC().duplicatesAndUnique().getOne(), triple.getOne());
+
+        CharCharPair vowelAndConsonant = processor.topVowelAndConsonant();
+        Assertions.assertEquals('e', vowelAndConsonant.getOne());
+        Assertions.assertEquals('t', vowelAndConsonant.getTwo());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void fromFile() throws IOException
+    {
+        Path file = this.haikuFile();
+        this.assertHaikuAnswers(StreamingTextProcessor.fromFile(file));
+        for (int chunkSize = 4; chunkSize <= 16; chunkSize++)
+        {
+            this.assertHaikuAnswers(StreamingTextProcessor.fromFile(file, chunkSize));
+        }
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void fromStream() throws IOException
+    {
+        this.assertHaikuAnswers(StreamingTextProcessor.fromStream(new ByteArrayInputStream(HAIKU)));
+        for (int chunkSize = 4; chunkSize <= 16; chunkSize++)
+        {
+            this.assertHaikuAnswers(StreamingTextProcessor.fromStream(new ByteArrayInputStream(HAIKU), chunkSize));
+        }
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void emptyAndInvalid() throws IOException
+    {
+        Path empty = Files.write(this.directory.resolve("empty.txt"), new byte[0]);
+        Assertions.assertTrue(StreamingTextProcessor.fromFile(empty).getLetters().isEmpty());
+        Assertions.assertEquals("", StreamingTextProcessor.fromStream(new ByteArrayInputStream(new byte[0])).distinctLetters());
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> StreamingTextProcessor.fromStream(new ByteArrayInputStream(HAIKU), 3));
+    }
+
+    private static CharCharPair topVowelAndConsonant(String text) throws IOException
+    {
+        return StreamingTextProcessor.fromStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))
+                .topVowelAndConsonant();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void topVowelAndConsonantWhenMissing() throws IOException
+    {
+        Assertions.assertEquals(PrimitiveTuples.pair(Character.MIN_VALUE, Character.MIN_VALUE), topVowelAndConsonant(""));
+        Assertions.assertEquals(PrimitiveTuples.pair(Character.MIN_VALUE, 'h'), topVowelAndConsonant("rhythm h"));
+        Assertions.assertEquals(PrimitiveTuples.pair('a', Character.MIN_VALUE), topVowelAndConsonant("aaa e"));
+
+        // More than 26 letters occur more often than the only vowel
+        StringBuilder cyrillic = new StringBuilder();
+        for (char letter = '\u0430'; letter <= '\u044F'; letter++)
+        {
+            cyrillic.append(letter).append(letter);
+        }
+        Assertions.assertEquals('a', topVowelAndConsonant(cyrillic + " a").getOne());
+    }
+}
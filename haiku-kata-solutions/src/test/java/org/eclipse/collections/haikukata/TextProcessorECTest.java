@@ -27,8 +27,8 @@ import org.junit.jupiter.api.Test;
 
 public class TextProcessorECTest
 {
-//    @Test // Uncomment once topLetters is implemented for EC
-//    @Tag("SOLUTION")
+    @Test
+    @Tag("SOLUTION")
     public void topLetters()
     {
         ListIterable<CharIntPair> top3 = new TextProcessorEC().topLetters();
@@ -38,8 +38,8 @@ public class TextProcessorECTest
         Assertions.assertEquals(PrimitiveTuples.pair('i', 62), top3.get(2));
     }
 
-//    @Test // Uncomment once distinctLetters is implemented for EC
-//    @Tag("SOLUTION")
+    @Test
+    @Tag("SOLUTION")
     public void distinctLetters()
     {
         String distinctLetters = new TextProcessorEC().distinctLetters();
@@ -57,8 +57,8 @@ public class TextProcessorECTest
         Assertions.assertEquals(CharSets.immutable.empty(), triple.getThree());
     }
 
-//    @Test // Uncomment once topVowelAndConsonant is implemented for EC
-//    @Tag("SOLUTION")
+    @Test
+    @Tag("SOLUTION")
     public void topVowelAndConsonant()
     {
         CharCharPair vowelAndConsonant = new TextProcessorEC().topVowelAndConsonant();
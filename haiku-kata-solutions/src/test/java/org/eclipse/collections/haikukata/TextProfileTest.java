@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.factory.primitive.IntBags;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.utility.StringIterate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TextProfileTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void haiku()
+    {
+        String haiku = new HaikuCollection().getText();
+        TextProfile profile = TextProfile.of(haiku);
+
+        MutableCharBag letters = CharAdapter.adapt(haiku)
+                .select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .toBag();
+        Assertions.assertEquals(letters, profile.getLetters());
+        Assertions.assertEquals(letters.topOccurrences(3), profile.getTopLetters());
+        Assertions.assertEquals(letters.topOccurrences(26), profile.getLetterOccurrences());
+        Assertions.assertEquals("breakingthoupvmwcdflsy", profile.getDistinctLetters());
+        Assertions.assertEquals('e', profile.getTopVowel());
+        Assertions.assertEquals('t', profile.getTopConsonant());
+        Assertions.assertEquals(letters.count(new TextProcessorEC()::isVowel), profile.getVowelCount());
+        Assertions.assertEquals(letters.size(), profile.getVowelCount() + profile.getConsonantCount());
+
+        MutableList<String> words = Lists.mutable.empty();
+        StringIterate.forEachToken(haiku, TextProfile.WORD_DELIMITERS, words::add);
+        Assertions.assertEquals(words.collectInt(String::length).toBag(), profile.getWordLengths());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void smallText()
+    {
+        TextProfile profile = TextProfile.of("Où est l'Été? Ici, 42 fois!");
+
+        Assertions.assertEquals("oùestléicf", profile.getDistinctLetters());
+        Assertions.assertEquals(CharBags.immutable.with('ù', 'e', 'l', 'c', 'f'), profile.getUnique().toBag());
+        Assertions.assertEquals(IntBags.immutable.with(2, 3, 5, 3, 2, 4), profile.getWordLengths());
+        Assertions.assertEquals(6, profile.getVowelCount());
+        Assertions.assertEquals(10, profile.getConsonantCount());
+        Assertions.assertEquals('i', profile.getTopVowel());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void emptyText()
+    {
+        TextProfile profile = TextProfile.of("");
+
+        Assertions.assertTrue(profile.getLetters().isEmpty());
+        Assertions.assertEquals("", profile.getDistinctLetters());
+        Assertions.assertEquals(Character.MIN_VALUE, profile.getTopVowel());
+        Assertions.assertEquals(Character.MIN_VALUE, profile.getTopConsonant());
+        Assertions.assertTrue(profile.getWordLengths().isEmpty());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void lettersThatLowercaseToAscii()
+    {
+        // KELVIN SIGN lowercases to 'k' and LATIN CAPITAL LETTER I WITH DOT ABOVE to 'i'
+        TextProfile profile = TextProfile.of("\u212Aitten k\u0130");
+
+        Assertions.assertEquals("kiten", profile.getDistinctLetters());
+        Assertions.assertEquals(CharBags.immutable.with('k', 'k', 'i', 'i', 't', 't', 'e', 'n'), profile.getLetters());
+        Assertions.assertEquals(3, profile.getVowelCount());
+        Assertions.assertEquals(5, profile.getConsonantCount());
+    }
+}
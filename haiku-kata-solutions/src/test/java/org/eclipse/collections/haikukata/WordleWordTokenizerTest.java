@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.haikukata;
+
+import org.eclipse.collections.impl.factory.Sets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class WordleWordTokenizerTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void haiku()
+    {
+        Assertions.assertEquals(
+                new TextProcessorEC().findWordleWords(),
+                WordleWordTokenizer.findWordleWords(new HaikuCollection().getText().toCharArray()));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void tokens()
+    {
+        char[] text = "Crème brûlée? HOUSE, house-party can't\tWrite 12345 tiny words"
+                .toCharArray();
+
+        Assertions.assertEquals(
+                Sets.mutable.with("crème", "house", "party", "write", "12345", "words"),
+                WordleWordTokenizer.findWordleWords(text));
+        Assertions.assertEquals(Sets.mutable.with("house"), WordleWordTokenizer.findWordleWords(text, 14, 26));
+        Assertions.assertEquals(Sets.mutable.empty(), WordleWordTokenizer.findWordleWords(new char[0]));
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.jacksonkata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.IntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+/**
+ * A compact binary format for a {@link Person} and for a {@code petsByAge} map, as an alternative to JSON for
+ * snapshots.
+ * <p/>
+ * Every pet name is written once in a dictionary at the start of the data and each pet refers to it by index, so names
+ * that repeat cost one or two bytes per pet. A {@link PetType} is written as one byte holding its ordinal plus one,
+ * with zero for {@code null}. Ints are written as variable length ZigZag varints, so an age takes one byte. The pets
+ * of a person are written as packed columns of types, name indexes and ages. Only the pets are written, as with the
+ * JSON, and the indexes are rebuilt by {@link Person#addPet(PetType, String, int)} on decode. A {@code petsByAge} map
+ * is written with its keys in ascending order as deltas, and the pets of each key without their age, since it is the
+ * key.
+ * <p/>
+ * The data is encoded into a heap {@link ByteBuffer} that grows as needed and is decoded from any {@link ByteBuffer},
+ * including a {@link FileChannel} mapped with {@link #readPerson(FileChannel)} or {@link #readPetsByAge(FileChannel)}.
+ */
+public final class CompactBinaryCodec
+{
+    private static final int PERSON = 0x4A4B5001;
+    private static final int PETS_BY_AGE = 0x4A4B4101;
+    private static final byte NULL_PET = -1;
+    private static final PetType[] PET_TYPES = PetType.values();
+
+    private CompactBinaryCodec()
+    {
+    }
+
+    /**
+     * Returns the person and their pets encoded in a buffer that is ready to be read.
+     */
+    public static ByteBuffer encode(Person person)
+    {
+        MutableList<Pet> pets = person.getPets();
+        NameDictionary names = new NameDictionary();
+        int[] nameIndexes = new int[pets.size()];
+        for (int i = 0; i < pets.size(); i++)
+        {
+            nameIndexes[i] = names.indexOf(pets.get(i).getName());
+        }
+        Output output = new Output(64 + names.getLength() + pets.size() * 4);
+        output.writeInt(PERSON);
+        output.writeString(person.getFirstName());
+        output.writeString(person.getLastName());
+        output.writeVarInt(person.getAge());
+        output.writeNames(names);
+        output.writeUnsignedVarInt(pets.size());
+        for (int i = 0; i < pets.size(); i++)
+        {
+            output.writeType(pets.get(i).getType());
+        }
+        for (int nameIndex : nameIndexes)
+        {
+            output.writeUnsignedVarInt(nameIndex);
+        }
+        for (int i = 0; i < pets.size(); i++)
+        {
+            output.writeVarInt(pets.get(i).getAge());
+        }
+        return output.flip();
+    }
+
+    /**
+     * Returns the map encoded in a buffer that is ready to be read. Pets whose age is not their key are decoded with
+     * their key as their age.
+     */
+    public static ByteBuffer encodePetsByAge(IntObjectMap<? extends List<Pet>> petsByAge)
+    {
+        int[] keys = petsByAge.keySet().toSortedArray();
+        NameDictionary names = new NameDictionary();
+        MutableIntList nameIndexes = IntLists.mutable.withInitialCapacity(keys.length * 8);
+        for (int key : keys)
+        {
+            List<Pet> bucket = petsByAge.get(key);
+            if (bucket != null)
+            {
+                for (Pet pet : bucket)
+                {
+                    if (pet != null)
+                    {
+                        nameIndexes.add(names.indexOf(pet.getName()));
+                    }
+                }
+            }
+        }
+        Output output = new Output(64 + names.getLength() + nameIndexes.size() * 3);
+        output.writeInt(PETS_BY_AGE);
+        output.writeNames(names);
+        output.writeUnsignedVarInt(keys.length);
+        int previous = 0;
+        int next = 0;
+        for (int key : keys)
+        {
+            output.writeVarInt(key - previous);
+            previous = key;
+            List<Pet> bucket = petsByAge.get(key);
+            if (bucket == null)
+            {
+                output.writeUnsignedVarInt(0);
+                continue;
+            }
+            output.writeUnsignedVarInt(bucket.size() + 1);
+            for (Pet pet : bucket)
+            {
+                if (pet == null)
+                {
+                    output.writeByte(NULL_PET);
+                }
+                else
+                {
+                    output.writeType(pet.getType());
+                    output.writeUnsignedVarInt(nameIndexes.get(next++));
+                }
+            }
+        }
+        return output.flip();
+    }
+
+    public static void write(Person person, WritableByteChannel channel) throws IOException
+    {
+        writeFully(encode(person), channel);
+    }
+
+    public static void writePetsByAge(IntObjectMap<? extends List<Pet>> petsByAge, WritableByteChannel channel)
+            throws IOException
+    {
+        writeFully(encodePetsByAge(petsByAge), channel);
+    }
+
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+    }
+
+    public static Person decodePerson(ByteBuffer buffer)
+    {
+        Input input = new Input(buffer);
+        input.expect(PERSON, "person");
+        Person person = new Person(input.readString(), input.readString(), input.readVarInt());
+        String[] names = input.readNames();
+        int count = input.readUnsignedVarInt();
+        PetType[] types = new PetType[count];
+        for (int i = 0; i < count; i++)
+        {
+            types[i] = input.readType(input.readByte());
+        }
+        int[] nameIndexes = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            nameIndexes[i] = input.readUnsignedVarInt();
+        }
+        for (int i = 0; i < count; i++)
+        {
+            person.addPet(types[i], names[nameIndexes[i]], input.readVarInt());
+        }
+        return person;
+    }
+
+    public static MutableIntObjectMap<MutableList<Pet>> decodePetsByAge(ByteBuffer buffer)
+    {
+        Input input = new Input(buffer);
+        input.expect(PETS_BY_AGE, "petsByAge map");
+        String[] names = input.readNames();
+        int keyCount = input.readUnsignedVarInt();
+        MutableIntObjectMap<MutableList<Pet>> result = IntObjectMaps.mutable.withInitialCapacity(keyCount);
+        int key = 0;
+        for (int i = 0; i < keyCount; i++)
+        {
+            key += input.readVarInt();
+            int size = input.readUnsignedVarInt() - 1;
+            if (size < 0)
+            {
+                result.put(key, null);
+                continue;
+            }
+            MutableList<Pet> bucket = Lists.mutable.withInitialCapacity(size);
+            for (int j = 0; j < size; j++)
+            {
+                byte type = input.readByte();
+                bucket.add(type == NULL_PET
+                        ? null
+                        : new Pet(input.readType(type), names[input.readUnsignedVarInt()], key));
+            }
+            result.put(key, bucket);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a person from the channel's position to the end of the file, which is mapped rather than copied.
+     */
+    public static Person readPerson(FileChannel channel) throws IOException
+    {
+        return decodePerson(map(channel));
+    }
+
+    /**
+     * Decodes a {@code petsByAge} map from the channel's position to the end of the file, which is mapped rather than
+     * copied.
+     */
+    public static MutableIntObjectMap<MutableList<Pet>> readPetsByAge(FileChannel channel) throws IOException
+    {
+        return decodePetsByAge(map(channel));
+    }
+
+    private static ByteBuffer map(FileChannel channel) throws IOException
+    {
+        long position = channel.position();
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, channel.size() - position);
+    }
+
+    private static final class Output
+    {
+        private ByteBuffer buffer;
+
+        private Output(int initialCapacity)
+        {
+            this.buffer = ByteBuffer.allocate(initialCapacity);
+        }
+
+        private void ensureRemaining(int bytes)
+        {
+            if (this.buffer.remaining() < bytes)
+            {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes));
+                this.buffer.flip();
+                larger.put(this.buffer);
+                this.buffer = larger;
+            }
+        }
+
+        private ByteBuffer flip()
+        {
+            return this.buffer.flip();
+        }
+
+        private void writeByte(byte value)
+        {
+            this.ensureRemaining(1);
+            this.buffer.put(value);
+        }
+
+        private void writeInt(int value)
+        {
+            this.ensureRemaining(4);
+            this.buffer.putInt(value);
+        }
+
+        private void writeUnsignedVarInt(int value)
+        {
+            this.ensureRemaining(5);
+            while ((value & ~0x7F) != 0)
+            {
+                this.buffer.put((byte) (value & 0x7F | 0x80));
+                value >>>= 7;
+            }
+            this.buffer.put((byte) value);
+        }
+
+        private void writeVarInt(int value)
+        {
+            this.writeUnsignedVarInt(value << 1 ^ value >> 31);
+        }
+
+        private void writeType(PetType type)
+        {
+            this.writeByte(type == null ? 0 : (byte) (type.ordinal() + 1));
+        }
+
+        /**
+         * Writes a string as its length in UTF-8 bytes plus one, with zero for {@code null}, followed by the bytes.
+         */
+        private void writeString(String value)
+        {
+            if (value == null)
+            {
+                this.writeUnsignedVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeUnsignedVarInt(bytes.length + 1);
+            this.ensureRemaining(bytes.length);
+            this.buffer.put(bytes);
+        }
+
+        private void writeNames(NameDictionary names)
+        {
+            this.writeUnsignedVarInt(names.names.size());
+            names.names.each(this::writeString);
+        }
+    }
+
+    /**
+     * The distinct names of the pets being encoded, in the order they first appear.
+     */
+    private static final class NameDictionary
+    {
+        private final MutableObjectIntMap<String> indexes = ObjectIntMaps.mutable.empty();
+        private final MutableList<String> names = Lists.mutable.empty();
+        private int length;
+
+        private int indexOf(String name)
+        {
+            int next = this.names.size();
+            int index = this.indexes.getIfAbsentPut(name, next);
+            if (index == next)
+            {
+                this.names.add(name);
+                this.length += name == null ? 1 : name.length() + 1;
+            }
+            return index;
+        }
+
+        /**
+         * Returns an estimate of the encoded size of the names, exact for ASCII names under 127 characters.
+         */
+        private int getLength()
+        {
+            return this.length;
+        }
+    }
+
+    private static final class Input
+    {
+        private final ByteBuffer buffer;
+
+        private Input(ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+        }
+
+        private void expect(int header, String description)
+        {
+            int actual = this.buffer.getInt();
+            if (actual != header)
+            {
+                throw new IllegalArgumentException(
+                        "Not an encoded " + description + ": header " + Integer.toHexString(actual));
+            }
+        }
+
+        private byte readByte()
+        {
+            return this.buffer.get();
+        }
+
+        private int readUnsignedVarInt()
+        {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7)
+            {
+                byte each = this.buffer.get();
+                result |= (each & 0x7F) << shift;
+                if (each >= 0)
+                {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at " + this.buffer.position());
+        }
+
+        private int readVarInt()
+        {
+            int value = this.readUnsignedVarInt();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        private PetType readType(byte value)
+        {
+            return value == 0 ? null : PET_TYPES[value - 1];
+        }
+
+        private String readString()
+        {
+            int length = this.readUnsignedVarInt() - 1;
+            if (length < 0)
+            {
+                return null;
+            }
+            if (length > this.buffer.remaining())
+            {
+                throw new IllegalArgumentException("String of " + length + " bytes at " + this.buffer.position()
+                        + " runs past the end of the input at " + this.buffer.limit());
+            }
+            String result;
+            if (this.buffer.hasArray())
+            {
+                result = new String(
+                        this.buffer.array(),
+                        this.buffer.arrayOffset() + this.buffer.position(),
+                        length,
+                        StandardCharsets.UTF_8);
+                this.buffer.position(this.buffer.position() + length);
+            }
+            else
+            {
+                byte[] bytes = new byte[length];
+                this.buffer.get(bytes);
+                result = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return result;
+        }
+
+        private String[] readNames()
+        {
+            String[] names = new String[this.readUnsignedVarInt()];
+            for (int i = 0; i < names.length; i++)
+            {
+                names[i] = this.readString();
+            }
+            return names;
+        }
+    }
+}
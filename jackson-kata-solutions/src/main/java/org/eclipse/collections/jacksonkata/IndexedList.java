@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.jacksonkata;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+
+/**
+ * A list of items that wraps a {@link MutableList}, which it only exposes through {@link #asUnmodifiable()}, with any
+ * number of secondary indexes that are kept up to date as items are added and removed through this class.
+ * <p/>
+ * An index is declared with {@link #addIndex(Function)} for object keys or {@link #addIntIndex(IntFunction)} for
+ * {@code int} keys, which are stored in a {@link MutableIntObjectMap} without boxing. Each index maps a key to the list
+ * of items with that key, in the order they were added, so a lookup is a single map read instead of a scan of the
+ * items. An index is only filled from the items the first time it is read, and is kept up to date from then on, so
+ * items added before then, for example while a snapshot is loaded, cost nothing for indexes that are never used. The
+ * items, the buckets of the indexes and the maps of buckets are only exposed unmodifiable, so they cannot be changed
+ * behind the list's back.
+ * <p/>
+ * Filling an index is synchronized on the index and published through a volatile flag, so a list that is no longer
+ * modified can be read by many threads, as before the indexes were filled lazily. Adding and removing items is not
+ * thread-safe.
+ */
+public class IndexedList<T>
+{
+    private final MutableList<T> items = Lists.mutable.empty();
+    private final MutableList<T> unmodifiableItems = this.items.asUnmodifiable();
+    private final MutableList<Index<T>> indexes = Lists.mutable.empty();
+
+    public <K> ObjectIndex<K, T> addIndex(Function<? super T, ? extends K> keyFunction)
+    {
+        return this.register(new ObjectIndex<>(this.items, keyFunction));
+    }
+
+    public IntIndex<T> addIntIndex(IntFunction<? super T> keyFunction)
+    {
+        return this.register(new IntIndex<>(this.items, keyFunction));
+    }
+
+    private <I extends Index<T>> I register(I index)
+    {
+        this.indexes.add(index);
+        return index;
+    }
+
+    public void add(T item)
+    {
+        this.items.add(item);
+        for (int i = 0; i < this.indexes.size(); i++)
+        {
+            this.indexes.get(i).itemAdded(item);
+        }
+    }
+
+    public void addAll(Iterable<? extends T> items)
+    {
+        items.forEach(this::add);
+    }
+
+    /**
+     * Removes the first item equal to {@code item} from the list and from every index.
+     */
+    public boolean remove(T item)
+    {
+        int position = this.items.indexOf(item);
+        if (position < 0)
+        {
+            return false;
+        }
+        T removed = this.items.remove(position);
+        for (int i = 0; i < this.indexes.size(); i++)
+        {
+            this.indexes.get(i).itemRemoved(removed);
+        }
+        return true;
+    }
+
+    public void clear()
+    {
+        this.items.clear();
+        this.indexes.each(Index::clear);
+    }
+
+    public int size()
+    {
+        return this.items.size();
+    }
+
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    public MutableList<T> asUnmodifiable()
+    {
+        return this.unmodifiableItems;
+    }
+
+    abstract static class Index<T>
+    {
+        private final MutableList<T> items;
+        private volatile boolean built;
+
+        Index(MutableList<T> items)
+        {
+            this.items = items;
+        }
+
+        boolean isBuilt()
+        {
+            return this.built;
+        }
+
+        /**
+         * Fills the index from the items if this is the first time it is used. The flag is only set once the index is
+         * full, so another thread that sees it set also sees the whole index.
+         */
+        final void build()
+        {
+            if (!this.built)
+            {
+                synchronized (this)
+                {
+                    if (!this.built)
+                    {
+                        this.items.each(this::add);
+                        this.built = true;
+                    }
+                }
+            }
+        }
+
+        final void itemAdded(T item)
+        {
+            if (this.built)
+            {
+                this.add(item);
+            }
+        }
+
+        final void itemRemoved(T item)
+        {
+            if (this.built)
+            {
+                this.remove(item);
+            }
+        }
+
+        abstract void add(T item);
+
+        abstract void remove(T item);
+
+        abstract void clear();
+    }
+
+    /**
+     * An index of the items of an {@link IndexedList} by an object key.
+     */
+    public static final class ObjectIndex<K, T> extends Index<T>
+    {
+        private final Function<? super T, ? extends K> keyFunction;
+        private final MutableMap<K, MutableList<T>> buckets = Maps.mutable.empty();
+
+        private ObjectIndex(MutableList<T> items, Function<? super T, ? extends K> keyFunction)
+        {
+            super(items);
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        void add(T item)
+        {
+            this.buckets.getIfAbsentPut(this.keyFunction.valueOf(item), Lists.mutable::empty).add(item);
+        }
+
+        @Override
+        void remove(T item)
+        {
+            K key = this.keyFunction.valueOf(item);
+            MutableList<T> bucket = this.buckets.get(key);
+            if (bucket != null && bucket.remove(item) && bucket.isEmpty())
+            {
+                this.buckets.remove(key);
+            }
+        }
+
+        @Override
+        void clear()
+        {
+            this.buckets.clear();
+        }
+
+        /**
+         * Returns the items with this key, or an empty list if there are none.
+         */
+        public MutableList<T> get(K key)
+        {
+            this.build();
+            MutableList<T> bucket = this.buckets.get(key);
+            return bucket == null ? Lists.fixedSize.empty() : bucket.asUnmodifiable();
+        }
+
+        public boolean containsKey(K key)
+        {
+            this.build();
+            return this.buckets.containsKey(key);
+        }
+
+        /**
+         * Returns an unmodifiable map of the keys of this index at the time of the call to unmodifiable views of their
+         * buckets.
+         */
+        public MutableMap<K, MutableList<T>> asUnmodifiable()
+        {
+            this.build();
+            MutableMap<K, MutableList<T>> result = Maps.mutable.withInitialCapacity(this.buckets.size());
+            this.buckets.forEachKeyValue((key, bucket) -> result.put(key, bucket.asUnmodifiable()));
+            return result.asUnmodifiable();
+        }
+    }
+
+    /**
+     * An index of the items of an {@link IndexedList} by an {@code int} key.
+     */
+    public static final class IntIndex<T> extends Index<T>
+    {
+        private final IntFunction<? super T> keyFunction;
+        private final MutableIntObjectMap<MutableList<T>> buckets = IntObjectMaps.mutable.empty();
+
+        private IntIndex(MutableList<T> items, IntFunction<? super T> keyFunction)
+        {
+            super(items);
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        void add(T item)
+        {
+            this.buckets.getIfAbsentPut(this.keyFunction.intValueOf(item), Lists.mutable::empty).add(item);
+        }
+
+        @Override
+        void remove(T item)
+        {
+            int key = this.keyFunction.intValueOf(item);
+            MutableList<T> bucket = this.buckets.get(key);
+            if (bucket != null && bucket.remove(item) && bucket.isEmpty())
+            {
+                this.buckets.remove(key);
+            }
+        }
+
+        @Override
+        void clear()
+        {
+            this.buckets.clear();
+        }
+
+        /**
+         * Returns the items with this key, or an empty list if there are none.
+         */
+        public MutableList<T> get(int key)
+        {
+            this.build();
+            MutableList<T> bucket = this.buckets.get(key);
+            return bucket == null ? Lists.fixedSize.empty() : bucket.asUnmodifiable();
+        }
+
+        public boolean containsKey(int key)
+        {
+            this.build();
+            return this.buckets.containsKey(key);
+        }
+
+        /**
+         * Returns an unmodifiable map of the keys of this index at the time of the call to unmodifiable views of their
+         * buckets.
+         */
+        public MutableIntObjectMap<MutableList<T>> asUnmodifiable()
+        {
+            this.build();
+            MutableIntObjectMap<MutableList<T>> result = IntObjectMaps.mutable.withInitialCapacity(this.buckets.size());
+            this.buckets.forEachKeyValue((key, bucket) -> result.put(key, bucket.asUnmodifiable()));
+            return result.asUnmodifiable();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.jacksonkata;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * Shared, preconfigured {@link ObjectReader}s and {@link ObjectWriter}s, so callers do not pay for registering modules
+ * and filling the serializer caches of a new {@link ObjectMapper} on every call.
+ * <p/>
+ * Each registry owns a private copy of its mapper and only hands out readers and writers, which are immutable and
+ * thread-safe, so the configuration cannot change under other callers. The reader and writer for each type are
+ * created once and kept in a {@link ConcurrentHashMap}. Those for {@link Person}, {@link Pet} and the collections of
+ * pets used by the kata are created, and their root serializers and deserializers resolved, when the registry is
+ * created. {@link #eclipseCollections()} and {@link #streaming()} are the shared registries for the mappers from
+ * {@link ObjectMapperUtils}.
+ */
+public final class ObjectMapperRegistry
+{
+    public static final TypeReference<MutableList<Pet>> PET_LIST = new TypeReference<>() {};
+    public static final TypeReference<ImmutableList<Pet>> IMMUTABLE_PET_LIST = new TypeReference<>() {};
+    public static final TypeReference<MutableIntObjectMap<MutableList<Pet>>> PETS_BY_AGE = new TypeReference<>() {};
+    public static final TypeReference<MutableMap<PetType, MutableList<Pet>>> PETS_BY_TYPE = new TypeReference<>() {};
+
+    private static final ObjectMapperRegistry ECLIPSE_COLLECTIONS =
+            new ObjectMapperRegistry(ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport());
+    private static final ObjectMapperRegistry STREAMING =
+            new ObjectMapperRegistry(ObjectMapperUtils.createObjectMapperWithStreamingSupport());
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMutableMap<JavaType, ObjectReader> readers = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<JavaType, ObjectWriter> writers = ConcurrentHashMap.newMap();
+
+    /**
+     * Creates a registry for a copy of the mapper, so later changes to the mapper are not seen by the registry.
+     */
+    public ObjectMapperRegistry(ObjectMapper mapper)
+    {
+        this.mapper = mapper.copy();
+        this.warmUp(this.mapper.constructType(Person.class));
+        this.warmUp(this.mapper.constructType(Pet.class));
+        this.warmUp(this.mapper.constructType(PET_LIST));
+        this.warmUp(this.mapper.constructType(IMMUTABLE_PET_LIST));
+        this.warmUp(this.mapper.constructType(PETS_BY_AGE));
+        this.warmUp(this.mapper.constructType(PETS_BY_TYPE));
+    }
+
+    /**
+     * Returns the registry for {@link ObjectMapperUtils#createObjectMapperWithEclipseCollectionsSupport()}.
+     */
+    public static ObjectMapperRegistry eclipseCollections()
+    {
+        return ECLIPSE_COLLECTIONS;
+    }
+
+    /**
+     * Returns the registry for {@link ObjectMapperUtils#createObjectMapperWithStreamingSupport()}.
+     */
+    public static ObjectMapperRegistry streaming()
+    {
+        return STREAMING;
+    }
+
+    private void warmUp(JavaType type)
+    {
+        this.readerFor(type);
+        this.writerFor(type);
+    }
+
+    public ObjectReader readerFor(Class<?> type)
+    {
+        return this.readerFor(this.mapper.constructType(type));
+    }
+
+    public ObjectReader readerFor(TypeReference<?> type)
+    {
+        return this.readerFor(this.mapper.constructType(type));
+    }
+
+    public ObjectReader readerFor(JavaType type)
+    {
+        return this.readers.getIfAbsentPutWith(type, this.mapper::readerFor, type);
+    }
+
+    public ObjectWriter writerFor(Class<?> type)
+    {
+        return this.writerFor(this.mapper.constructType(type));
+    }
+
+    public ObjectWriter writerFor(TypeReference<?> type)
+    {
+        return this.writerFor(this.mapper.constructType(type));
+    }
+
+    public ObjectWriter writerFor(JavaType type)
+    {
+        return this.writers.getIfAbsentPutWith(type, this.mapper::writerFor, type);
+    }
+}
@@ -14,7 +14,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.eclipsecollections.EclipseCollectionsModule;
 
 /**
- * Utility for instantiating {@link ObjectMapper}.
+ * Utility for instantiating {@link ObjectMapper}. Every call creates and configures a new mapper with empty serializer
+ * caches, so code that reads or writes repeatedly should use the shared readers and writers of
+ * {@link ObjectMapperRegistry} instead.
  */
 public class ObjectMapperUtils
 {
@@ -39,4 +41,15 @@ public class ObjectMapperUtils
     {
         return ObjectMapperUtils.createSimpleObjectMapper().registerModule(new EclipseCollectionsModule());
     }
+
+    /**
+     * Registers {@link StreamingCollectionsModule} after {@link EclipseCollectionsModule} in {@link ObjectMapper}, so
+     * pets and int keyed maps are written and read without the generic bean and map paths.
+     * @return {@link ObjectMapper}
+     */
+    public static ObjectMapper createObjectMapperWithStreamingSupport()
+    {
+        return ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport()
+                .registerModule(new StreamingCollectionsModule());
+    }
 }
@@ -13,29 +13,29 @@ package org.eclipse.collections.jacksonkata;
 import java.beans.ConstructorProperties;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
-import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
 
+/**
+ * A person and their pets, which are kept in an {@link IndexedList} with an index by age and an index by type.
+ * <p/>
+ * Only {@code pets} is written to JSON. Each index is rebuilt from {@code pets} in one pass the first time it is used,
+ * by {@link #getPetsByAge(int)}, {@link #getPetsByType(PetType)} or {@link #hasPet(PetType)}, so loading a person does
+ * not pay for indexes that are never read, and the indexes share the pet instances in {@code pets}. The
+ * {@code petsByAge} and {@code petsByType} fields of JSON written before the indexes were left out are ignored.
+ */
+@JsonIgnoreProperties({"petsByAge", "petsByType"})
 public class Person
 {
     private String firstName;
     private String lastName;
     private int age;
 
-    @JsonProperty
-    private final MutableList<Pet> pets = Lists.mutable.empty();
-
-    @JsonProperty
-    private final MutableIntObjectMap<MutableList<Pet>> petsByAge = IntObjectMaps.mutable.empty();
-
-    @JsonProperty
-    private final MutableMap<PetType, MutableList<Pet>> petsByType = Maps.mutable.empty();
+    private final IndexedList<Pet> pets = new IndexedList<>();
+    private final IndexedList.IntIndex<Pet> petsByAge = this.pets.addIntIndex(Pet::getAge);
+    private final IndexedList.ObjectIndex<PetType, Pet> petsByType = this.pets.addIndex(Pet::getType);
 
     @ConstructorProperties({"firstName", "lastName", "age"})
     public Person(String firstName, String lastName, int age)
@@ -57,12 +57,12 @@ public class Person
 
     public MutableList<Pet> getPetsByAge(int age)
     {
-        return this.petsByAge.getIfAbsent(age, () -> Lists.mutable.empty());
+        return this.petsByAge.get(age);
     }
 
     public MutableList<Pet> getPetsByType(PetType petType)
     {
-        return this.petsByType.getIfAbsent(petType, Lists.mutable::empty);
+        return this.petsByType.get(petType);
     }
 
     public boolean hasPet(PetType petType)
@@ -73,15 +73,30 @@ public class Person
     @JsonIgnore
     public ImmutableList<Pet> getImmutablePets()
     {
-        return this.pets.toImmutable();
+        return this.pets.asUnmodifiable().toImmutable();
+    }
+
+    @JsonProperty("pets")
+    MutableList<Pet> getPets()
+    {
+        return this.pets.asUnmodifiable();
+    }
+
+    @JsonProperty("pets")
+    private void setPets(MutableList<Pet> pets)
+    {
+        this.pets.clear();
+        this.pets.addAll(pets);
     }
 
     public void addPet(PetType petType, String name, int age)
     {
-        Pet pet = new Pet(petType, name, age);
-        this.pets.add(pet);
-        this.petsByAge.getIfAbsentPut(pet.getAge(), Lists.mutable::empty).add(pet);
-        this.petsByType.getIfAbsentPut(pet.getType(), Lists.mutable::empty).add(pet);
+        this.pets.add(new Pet(petType, name, age));
+    }
+
+    public boolean removePet(Pet pet)
+    {
+        return this.pets.remove(pet);
     }
 
     @JsonIgnore
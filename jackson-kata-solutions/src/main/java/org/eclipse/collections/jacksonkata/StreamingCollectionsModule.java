@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.jacksonkata;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import org.eclipse.collections.api.block.procedure.primitive.IntObjectProcedure;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.IntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+
+/**
+ * Streaming serializers and deserializers for the collections in the jackson kata domain, to be registered after
+ * {@link com.fasterxml.jackson.datatype.eclipsecollections.EclipseCollectionsModule} so they take precedence.
+ * <ul>
+ * <li>{@link Pet} is written and read field by field through the {@link JsonGenerator} and {@link JsonParser}, with the
+ * field names and {@link PetType} names as pre-encoded {@link SerializedString}s, instead of through a bean
+ * serializer.</li>
+ * <li>A list or other collection declared with {@link Pet} elements is written with the {@link Pet} serializer inlined
+ * and read straight into a {@link MutableList} when it is declared as a {@link Collection}, {@link List},
+ * {@link MutableCollection} or {@link MutableList}.</li>
+ * <li>An {@link IntObjectMap} is written with its keys taken from a table of pre-built field names, and the value
+ * serializer is kept between calls and only looked up again when the class of the values changes. A property declared
+ * as an {@link IntObjectMap} or {@link MutableIntObjectMap} is read straight into an {@code IntObjectHashMap}, parsing
+ * each field name as an {@code int}.</li>
+ * </ul>
+ * The primitive collections are left to {@code EclipseCollectionsModule}, which already writes and reads their
+ * elements without boxing. The JSON is the same as the default serialization, so either side can read the other's
+ * output.
+ */
+public class StreamingCollectionsModule extends SimpleModule
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString AGE = new SerializedString("age");
+    private static final PetType[] PET_TYPES = PetType.values();
+    private static final SerializedString[] PET_TYPE_NAMES = new SerializedString[PET_TYPES.length];
+    private static final SerializedString[] KEYS = new SerializedString[1024];
+    private static final ImmutableSet<Class<?>> PET_LIST_TYPES =
+            Sets.immutable.with(Collection.class, List.class, MutableCollection.class, MutableList.class);
+
+    static
+    {
+        for (PetType petType : PET_TYPES)
+        {
+            PET_TYPE_NAMES[petType.ordinal()] = new SerializedString(petType.name());
+        }
+        for (int i = 0; i < KEYS.length; i++)
+        {
+            KEYS[i] = new SerializedString(Integer.toString(i));
+        }
+    }
+
+    public StreamingCollectionsModule()
+    {
+        super(StreamingCollectionsModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context)
+    {
+        super.setupModule(context);
+        context.addSerializers(new StreamingSerializers());
+        context.addDeserializers(new StreamingDeserializers());
+    }
+
+    private static void writePet(Pet pet, JsonGenerator generator) throws IOException
+    {
+        generator.writeStartObject(pet);
+        generator.writeFieldName(TYPE);
+        if (pet.getType() == null)
+        {
+            generator.writeNull();
+        }
+        else
+        {
+            generator.writeString(PET_TYPE_NAMES[pet.getType().ordinal()]);
+        }
+        generator.writeFieldName(NAME);
+        generator.writeString(pet.getName());
+        generator.writeFieldName(AGE);
+        generator.writeNumber(pet.getAge());
+        generator.writeEndObject();
+    }
+
+    private static Pet readPet(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        PetType type = null;
+        String name = null;
+        int age = 0;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName())
+        {
+            JsonToken token = parser.nextToken();
+            switch (field)
+            {
+                case "type":
+                    type = token == JsonToken.VALUE_NULL ? null : readPetType(parser, context);
+                    break;
+                case "name":
+                    name = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                    break;
+                case "age":
+                    age = token == JsonToken.VALUE_NUMBER_INT
+                            ? parser.getIntValue()
+                            : context.readValue(parser, Integer.TYPE).intValue();
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, null, Pet.class, field);
+            }
+        }
+        return new Pet(type, name, age);
+    }
+
+    /**
+     * Reads a {@link PetType} by name, reporting an unknown name through the context as the enum deserializer does.
+     */
+    private static PetType readPetType(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        String text = parser.getText();
+        for (PetType each : PET_TYPES)
+        {
+            if (each.name().equals(text))
+            {
+                return each;
+            }
+        }
+        return (PetType) context.handleWeirdStringValue(
+                PetType.class,
+                text,
+                "not one of the values accepted for Enum class: %s",
+                Arrays.toString(PET_TYPES));
+    }
+
+    private static final class StreamingSerializers extends Serializers.Base
+    {
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc)
+        {
+            if (type.hasRawClass(Pet.class))
+            {
+                return new PetSerializer();
+            }
+            if (IntObjectMap.class.isAssignableFrom(type.getRawClass()))
+            {
+                JavaType[] parameters = type.findTypeParameters(IntObjectMap.class);
+                return new IntObjectMapSerializer(
+                        parameters.length == 1 ? parameters[0] : config.getTypeFactory().constructType(Object.class));
+            }
+            return null;
+        }
+
+        @Override
+        public JsonSerializer<?> findCollectionSerializer(
+                SerializationConfig config,
+                CollectionType type,
+                BeanDescription beanDesc,
+                TypeSerializer elementTypeSerializer,
+                JsonSerializer<Object> elementValueSerializer)
+        {
+            if (type.getContentType().hasRawClass(Pet.class) && elementTypeSerializer == null && elementValueSerializer == null)
+            {
+                return new PetCollectionSerializer();
+            }
+            return null;
+        }
+    }
+
+    private static final class StreamingDeserializers extends Deserializers.Base
+    {
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc)
+        {
+            if (type.hasRawClass(Pet.class))
+            {
+                return new PetDeserializer();
+            }
+            if (type.hasRawClass(IntObjectMap.class) || type.hasRawClass(MutableIntObjectMap.class))
+            {
+                JavaType[] parameters = type.findTypeParameters(IntObjectMap.class);
+                return new IntObjectMapDeserializer(
+                        parameters.length == 1 ? parameters[0] : config.getTypeFactory().constructType(Object.class),
+                        null);
+            }
+            return null;
+        }
+
+        @Override
+        public JsonDeserializer<?> findCollectionDeserializer(
+                CollectionType type,
+                DeserializationConfig config,
+                BeanDescription beanDesc,
+                TypeDeserializer elementTypeDeserializer,
+                JsonDeserializer<?> elementDeserializer)
+        {
+            if (type.getContentType().hasRawClass(Pet.class)
+                    && PET_LIST_TYPES.contains(type.getRawClass())
+                    && elementTypeDeserializer == null
+                    && elementDeserializer == null)
+            {
+                return new PetListDeserializer();
+            }
+            return null;
+        }
+    }
+
+    private static final class PetSerializer extends StdSerializer<Pet>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private PetSerializer()
+        {
+            super(Pet.class);
+        }
+
+        @Override
+        public void serialize(Pet pet, JsonGenerator generator, SerializerProvider provider) throws IOException
+        {
+            writePet(pet, generator);
+        }
+    }
+
+    private static final class PetDeserializer extends StdDeserializer<Pet>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private PetDeserializer()
+        {
+            super(Pet.class);
+        }
+
+        @Override
+        public Pet deserialize(JsonParser parser, DeserializationContext context) throws IOException
+        {
+            if (!parser.isExpectedStartObjectToken())
+            {
+                return (Pet) context.handleUnexpectedToken(Pet.class, parser);
+            }
+            return readPet(parser, context);
+        }
+    }
+
+    private static final class PetCollectionSerializer extends StdSerializer<Collection<?>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private PetCollectionSerializer()
+        {
+            super(Collection.class, false);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Collection<?> pets)
+        {
+            return pets.isEmpty();
+        }
+
+        @Override
+        public void serialize(Collection<?> pets, JsonGenerator generator, SerializerProvider provider) throws IOException
+        {
+            generator.writeStartArray(pets, pets.size());
+            for (Object each : pets)
+            {
+                if (each == null)
+                {
+                    generator.writeNull();
+                }
+                else
+                {
+                    writePet((Pet) each, generator);
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static final class PetListDeserializer extends StdDeserializer<MutableList<?>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private PetListDeserializer()
+        {
+            super(MutableList.class);
+        }
+
+        @Override
+        public MutableList<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException
+        {
+            if (!parser.isExpectedStartArrayToken())
+            {
+                return (MutableList<?>) context.handleUnexpectedToken(MutableList.class, parser);
+            }
+            MutableList<Pet> result = Lists.mutable.empty();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken())
+            {
+                if (token == JsonToken.VALUE_NULL)
+                {
+                    result.add(null);
+                }
+                else if (token == JsonToken.START_OBJECT)
+                {
+                    result.add(readPet(parser, context));
+                }
+                else
+                {
+                    result.add((Pet) context.handleUnexpectedToken(Pet.class, parser));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class IntObjectMapSerializer extends StdSerializer<IntObjectMap<?>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final JavaType valueType;
+        private volatile ValueSerializer lastValueSerializer = new ValueSerializer(null, null);
+
+        private IntObjectMapSerializer(JavaType valueType)
+        {
+            super(IntObjectMap.class, false);
+            this.valueType = valueType;
+        }
+
+        private ValueSerializer serializerFor(Class<?> valueClass, SerializerProvider provider) throws IOException
+        {
+            ValueSerializer last = this.lastValueSerializer;
+            if (last.valueClass == valueClass)
+            {
+                return last;
+            }
+            JavaType type = this.valueType.hasRawClass(valueClass)
+                    ? this.valueType
+                    : provider.constructSpecializedType(this.valueType, valueClass);
+            ValueSerializer result = new ValueSerializer(valueClass, provider.findValueSerializer(type));
+            this.lastValueSerializer = result;
+            return result;
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, IntObjectMap<?> map)
+        {
+            return map.isEmpty();
+        }
+
+        @Override
+        public void serialize(IntObjectMap<?> map, JsonGenerator generator, SerializerProvider provider) throws IOException
+        {
+            generator.writeStartObject(map);
+            EntryWriter writer = new EntryWriter(this, generator, provider);
+            try
+            {
+                map.forEachKeyValue(writer);
+            }
+            catch (UncheckedIOException e)
+            {
+                throw e.getCause();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * A value class and its serializer, replaced as a whole so it can be shared between threads without locking.
+     */
+    private static final class ValueSerializer
+    {
+        private final Class<?> valueClass;
+        private final JsonSerializer<Object> serializer;
+
+        private ValueSerializer(Class<?> valueClass, JsonSerializer<Object> serializer)
+        {
+            this.valueClass = valueClass;
+            this.serializer = serializer;
+        }
+    }
+
+    /**
+     * Writes the entries of an {@link IntObjectMap}, starting from the value serializer that the map serializer last
+     * resolved, so the type of each value is only looked up when its class changes.
+     */
+    private static final class EntryWriter implements IntObjectProcedure<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final IntObjectMapSerializer mapSerializer;
+        private final JsonGenerator generator;
+        private final SerializerProvider provider;
+        private ValueSerializer last;
+
+        private EntryWriter(IntObjectMapSerializer mapSerializer, JsonGenerator generator, SerializerProvider provider)
+        {
+            this.mapSerializer = mapSerializer;
+            this.generator = generator;
+            this.provider = provider;
+            this.last = mapSerializer.lastValueSerializer;
+        }
+
+        @Override
+        public void value(int key, Object value)
+        {
+            try
+            {
+                if (key >= 0 && key < KEYS.length)
+                {
+                    this.generator.writeFieldName(KEYS[key]);
+                }
+                else
+                {
+                    this.generator.writeFieldName(Integer.toString(key));
+                }
+                if (value == null)
+                {
+                    this.provider.defaultSerializeNull(this.generator);
+                    return;
+                }
+                if (value.getClass() != this.last.valueClass)
+                {
+                    this.last = this.mapSerializer.serializerFor(value.getClass(), this.provider);
+                }
+                this.last.serializer.serialize(value, this.generator, this.provider);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class IntObjectMapDeserializer
+            extends StdDeserializer<MutableIntObjectMap<?>>
+            implements ContextualDeserializer
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final JavaType valueType;
+        private final JsonDeserializer<Object> valueDeserializer;
+
+        private IntObjectMapDeserializer(JavaType valueType, JsonDeserializer<Object> valueDeserializer)
+        {
+            super(MutableIntObjectMap.class);
+            this.valueType = valueType;
+            this.valueDeserializer = valueDeserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+                throws JsonMappingException
+        {
+            if (this.valueDeserializer != null)
+            {
+                return this;
+            }
+            return new IntObjectMapDeserializer(
+                    this.valueType,
+                    context.findContextualValueDeserializer(this.valueType, property));
+        }
+
+        @Override
+        public MutableIntObjectMap<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException
+        {
+            if (!parser.isExpectedStartObjectToken())
+            {
+                return (MutableIntObjectMap<?>) context.handleUnexpectedToken(MutableIntObjectMap.class, parser);
+            }
+            MutableIntObjectMap<Object> result = IntObjectMaps.mutable.empty();
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName())
+            {
+                int key;
+                try
+                {
+                    key = Integer.parseInt(field);
+                }
+                catch (NumberFormatException e)
+                {
+                    key = (Integer) context.handleWeirdKey(Integer.class, field, "not an int");
+                }
+                JsonToken token = parser.nextToken();
+                result.put(key, token == JsonToken.VALUE_NULL
+                        ? this.valueDeserializer.getNullValue(context)
+                        : this.valueDeserializer.deserialize(parser, context));
+            }
+            return result;
+        }
+    }
+}
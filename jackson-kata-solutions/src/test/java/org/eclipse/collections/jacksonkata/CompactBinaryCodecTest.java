@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.eclipse.collections.jacksonkata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompactBinaryCodecTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void personRoundTrip()
+    {
+        Person person = new Person("Zoë", null, 25);
+        person.addPet(PetType.HAMSTER, "Bobby", 1);
+        person.addPet(PetType.DOG, "Jackie", -2);
+        person.addPet(null, "Bobby", 1000);
+
+        Person decoded = CompactBinaryCodec.decodePerson(CompactBinaryCodec.encode(person));
+        Assertions.assertEquals("Zoë", decoded.getFirstName());
+        Assertions.assertNull(decoded.getLastName());
+        Assertions.assertEquals(25, decoded.getAge());
+        Assertions.assertEquals(person.getImmutablePets(), decoded.getImmutablePets());
+        Assertions.assertSame(decoded.getImmutablePets().get(0).getName(), decoded.getImmutablePets().get(2).getName());
+        Assertions.assertEquals(2, decoded.getPetsByAge(1000).size() + decoded.getPetsByAge(1).size());
+        Assertions.assertTrue(decoded.hasPet(PetType.DOG));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void petsByAgeRoundTrip()
+    {
+        MutableIntObjectMap<MutableList<Pet>> petsByAge = IntObjectMaps.mutable.empty();
+        petsByAge.put(-1, Lists.mutable.with(new Pet(PetType.CAT, "Tabby", -1)));
+        petsByAge.put(3, Lists.mutable.with(new Pet(PetType.DOG, "Rex", 3), null, new Pet(PetType.CAT, "Tabby", 3)));
+        petsByAge.put(Integer.MAX_VALUE, Lists.mutable.empty());
+        petsByAge.put(7, null);
+
+        Assertions.assertEquals(
+                petsByAge,
+                CompactBinaryCodec.decodePetsByAge(CompactBinaryCodec.encodePetsByAge(petsByAge)));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void fileChannelRoundTrip(@TempDir Path directory) throws IOException
+    {
+        Person person = new Person("Alex", "Goldberg", 25);
+        for (int i = 0; i < 10_000; i++)
+        {
+            person.addPet(PetType.values()[i % 6], "Pet" + i % 100, i % 20);
+        }
+
+        Path file = directory.resolve("person.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+        {
+            CompactBinaryCodec.write(person, channel);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            Assertions.assertEquals(person.getImmutablePets(), CompactBinaryCodec.readPerson(channel).getImmutablePets());
+        }
+
+        ObjectMapper objectMapper = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport();
+        Assertions.assertTrue(Files.size(file) * 10 < objectMapper.writeValueAsBytes(person).length);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void wrongHeaderFails()
+    {
+        ByteBuffer petsByAge = CompactBinaryCodec.encodePetsByAge(IntObjectMaps.mutable.empty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompactBinaryCodec.decodePerson(petsByAge));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void truncatedStringFails()
+    {
+        ByteBuffer encoded = CompactBinaryCodec.encode(new Person("Alexandra", "Goldberg", 25));
+        // The header and the length of the first name, followed by only part of the name
+        ByteBuffer truncated = encoded.duplicate();
+        truncated.limit(truncated.position() + 8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        direct.put(truncated.duplicate()).flip();
+
+        Assertions.assertTrue(truncated.hasArray());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompactBinaryCodec.decodePerson(truncated));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompactBinaryCodec.decodePerson(direct));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.eclipse.collections.jacksonkata;
+
+import java.text.NumberFormat;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MultiReaderList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.StringIterate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures what the indexes of an {@link IndexedList} cost on top of a plain list of the same pets, in the style of the
+ * {@code CollectionMemoryTest} in the lost and found kata. The pets themselves are shared, so they are left out.
+ */
+public class IndexedListMemoryTest
+{
+    private static final int PET_COUNT = 10_000;
+    private static final MutableList<Pet> PETS = Interval.zeroTo(PET_COUNT - 1)
+            .collect(i -> new Pet(PetType.values()[i % PetType.values().length], "Pet" + i, i % 20 + 1))
+            .toList();
+    private static MultiReaderList<Pair<String, Long>> RESULTS = Lists.multiReader.empty();
+
+    private long record(String name, Object collection)
+    {
+        long size = GraphLayout.parseInstance(collection)
+                .subtract(GraphLayout.parseInstance(PETS.toArray()))
+                .subtract(GraphLayout.parseInstance((Object[]) PetType.values()))
+                .totalSize();
+        RESULTS.add(Tuples.pair(name, size));
+        return size;
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexOverhead()
+    {
+        long plain = this.record("MutableList", Lists.mutable.withAll(PETS));
+
+        IndexedList<Pet> noIndexes = new IndexedList<>();
+        noIndexes.addAll(PETS);
+        long none = this.record("IndexedList, no indexes", noIndexes);
+
+        IndexedList<Pet> byAge = new IndexedList<>();
+        byAge.addIntIndex(Pet::getAge).asUnmodifiable();
+        byAge.addAll(PETS);
+        long age = this.record("IndexedList, by age", byAge);
+
+        IndexedList<Pet> byAgeAndType = new IndexedList<>();
+        byAgeAndType.addIntIndex(Pet::getAge).asUnmodifiable();
+        byAgeAndType.addIndex(Pet::getType).asUnmodifiable();
+        byAgeAndType.addAll(PETS);
+        long ageAndType = this.record("IndexedList, by age and type", byAgeAndType);
+
+        Assertions.assertTrue(plain <= none);
+        Assertions.assertTrue(none < age);
+        Assertions.assertTrue(age < ageAndType);
+        Assertions.assertTrue(ageAndType < 4 * plain);
+    }
+
+    @AfterAll
+    static void afterAll()
+    {
+        System.out.println(StringIterate.padOrTrim("IndexedList footprint without the pets", 49));
+        System.out.println(StringIterate.padOrTrim("Count: " + NumberFormat.getInstance().format(PET_COUNT) + " pets, 20 ages, 6 types", 49));
+        System.out.println(StringIterate.repeat("-", 49));
+        RESULTS.each(pair -> System.out.println(StringIterate.padOrTrim(pair.getOne(), 29)
+                + " Size (bytes): " + NumberFormat.getInstance().format(pair.getTwo())));
+    }
+}
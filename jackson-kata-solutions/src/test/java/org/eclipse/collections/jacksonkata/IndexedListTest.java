@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.eclipse.collections.jacksonkata;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class IndexedListTest
+{
+    private final Pet tom = new Pet(PetType.CAT, "Tom", 3);
+    private final Pet rex = new Pet(PetType.DOG, "Rex", 3);
+    private final Pet tabby = new Pet(PetType.CAT, "Tabby", 5);
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexesFollowAddAndRemove()
+    {
+        IndexedList<Pet> pets = new IndexedList<>();
+        IndexedList.IntIndex<Pet> byAge = pets.addIntIndex(Pet::getAge);
+        IndexedList.ObjectIndex<PetType, Pet> byType = pets.addIndex(Pet::getType);
+        pets.addAll(Lists.mutable.with(this.tom, this.rex, this.tabby));
+
+        Assertions.assertEquals(Lists.mutable.with(this.tom, this.rex), byAge.get(3));
+        Assertions.assertEquals(Lists.mutable.with(this.tom, this.tabby), byType.get(PetType.CAT));
+        Assertions.assertEquals(Lists.mutable.empty(), byType.get(PetType.SNAKE));
+
+        Assertions.assertTrue(pets.remove(this.tabby));
+        Assertions.assertFalse(pets.remove(this.tabby));
+        Assertions.assertEquals(Lists.mutable.with(this.tom, this.rex), pets.asUnmodifiable());
+        Assertions.assertFalse(byAge.containsKey(5));
+        Assertions.assertEquals(
+                IntObjectMaps.mutable.with(3, Lists.mutable.with(this.tom, this.rex)),
+                byAge.asUnmodifiable());
+        Assertions.assertEquals(
+                Maps.mutable.with(PetType.CAT, Lists.mutable.with(this.tom), PetType.DOG, Lists.mutable.with(this.rex)),
+                byType.asUnmodifiable());
+
+        pets.clear();
+        Assertions.assertTrue(pets.isEmpty());
+        Assertions.assertTrue(byAge.asUnmodifiable().isEmpty());
+        Assertions.assertTrue(byType.asUnmodifiable().isEmpty());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void lateIndexIsFilledAndViewsAreUnmodifiable()
+    {
+        IndexedList<Pet> pets = new IndexedList<>();
+        pets.add(this.tom);
+        pets.add(this.rex);
+        IndexedList.ObjectIndex<String, Pet> byName = pets.addIndex(Pet::getName);
+
+        Assertions.assertEquals(Lists.mutable.with(this.rex), byName.get("Rex"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> pets.asUnmodifiable().add(this.tabby));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> byName.get("Rex").add(this.tabby));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> byName.get("Tabby").add(this.tabby));
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> byName.asUnmodifiable().get("Rex").add(this.tabby));
+
+        IndexedList.IntIndex<Pet> byAge = pets.addIntIndex(Pet::getAge);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> byAge.get(99).add(this.tabby));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> byAge.asUnmodifiable().get(3).add(this.tabby));
+        Assertions.assertEquals(Lists.mutable.with(this.tom, this.rex), byAge.get(3));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexIsBuiltOnFirstRead()
+    {
+        IndexedList<Pet> pets = new IndexedList<>();
+        IndexedList.IntIndex<Pet> byAge = pets.addIntIndex(Pet::getAge);
+        IndexedList.ObjectIndex<PetType, Pet> byType = pets.addIndex(Pet::getType);
+        pets.add(this.tom);
+        pets.add(this.rex);
+        Assertions.assertFalse(byAge.isBuilt());
+        Assertions.assertFalse(byType.isBuilt());
+
+        Assertions.assertTrue(byAge.containsKey(3));
+        Assertions.assertTrue(byAge.isBuilt());
+        Assertions.assertFalse(byType.isBuilt());
+
+        pets.add(this.tabby);
+        pets.remove(this.rex);
+        Assertions.assertEquals(Lists.mutable.with(this.tom), byAge.get(3));
+        Assertions.assertEquals(Lists.mutable.with(this.tabby), byAge.get(5));
+        Assertions.assertEquals(Lists.mutable.with(this.tom, this.tabby), byType.get(PetType.CAT));
+    }
+}
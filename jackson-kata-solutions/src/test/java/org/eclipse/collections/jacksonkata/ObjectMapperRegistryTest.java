@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.eclipse.collections.jacksonkata;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.primitive.IntBags;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ObjectMapperRegistryTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void readersAndWritersAreShared() throws IOException
+    {
+        ObjectMapperRegistry registry = ObjectMapperRegistry.streaming();
+        Assertions.assertSame(registry, ObjectMapperRegistry.streaming());
+        Assertions.assertSame(registry.readerFor(Person.class), registry.readerFor(Person.class));
+        Assertions.assertSame(
+                registry.writerFor(ObjectMapperRegistry.PETS_BY_AGE),
+                registry.writerFor(ObjectMapperRegistry.PETS_BY_AGE));
+        Assertions.assertSame(registry.writerFor(MutableIntBag.class), registry.writerFor(MutableIntBag.class));
+
+        Person person = new Person("Alex", "Goldberg", 25);
+        person.addPet(PetType.DOG, "Rex", 3);
+        byte[] json = registry.writerFor(Person.class).writeValueAsBytes(person);
+        Assertions.assertArrayEquals(
+                ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport().writeValueAsBytes(person),
+                json);
+        Person read = registry.readerFor(Person.class).readValue(json);
+        Assertions.assertEquals(person.getImmutablePets(), read.getImmutablePets());
+        Assertions.assertEquals(
+                IntBags.mutable.with(1, 1, 2),
+                ObjectMapperRegistry.eclipseCollections().readerFor(MutableIntBag.class).readValue("[1,2,1]"));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void registryIsNotChangedByItsMapper() throws IOException
+    {
+        ObjectMapper mapper = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport();
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(mapper);
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        String json = registry.writerFor(Pet.class).writeValueAsString(new Pet(PetType.CAT, "Tom", 3));
+        Assertions.assertEquals("{\"type\":\"CAT\",\"name\":\"Tom\",\"age\":3}", json);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void concurrentLookups() throws Exception
+    {
+        ObjectMapperRegistry registry =
+                new ObjectMapperRegistry(ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Future<ObjectWriter>> futures = Interval.oneTo(100)
+                    .collect(each -> executor.submit(() -> registry.writerFor(Integer.class)))
+                    .toList();
+            ObjectWriter first = futures.getFirst().get();
+            for (Future<ObjectWriter> each : futures)
+            {
+                Assertions.assertSame(first, each.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.eclipse.collections.jacksonkata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PersonTest
+{
+    @Test
+    @Tag("SOLUTION")
+    public void roundTripRebuildsIndexes() throws JsonProcessingException
+    {
+        Person person = new Person("Alex", "Goldberg", 25);
+        person.addPet(PetType.HAMSTER, "Bobby", 1);
+        person.addPet(PetType.DOG, "Jackie", 2);
+        person.addPet(PetType.DOG, "Sam", 1);
+
+        ObjectMapper objectMapper = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport();
+        String json = objectMapper.writeValueAsString(person);
+        JsonNode tree = objectMapper.readTree(json);
+        Assertions.assertEquals(3, tree.get("pets").size());
+        Assertions.assertFalse(tree.has("petsByAge"));
+        Assertions.assertFalse(tree.has("petsByType"));
+
+        Person deserialized = objectMapper.readValue(json, Person.class);
+        Assertions.assertEquals(person.getImmutablePets(), deserialized.getImmutablePets());
+        Assertions.assertEquals(
+                Lists.mutable.with(new Pet(PetType.HAMSTER, "Bobby", 1), new Pet(PetType.DOG, "Sam", 1)),
+                deserialized.getPetsByAge(1));
+        Assertions.assertSame(deserialized.getImmutablePets().get(1), deserialized.getPetsByType(PetType.DOG).get(0));
+        Assertions.assertTrue(deserialized.hasPet(PetType.HAMSTER));
+        Assertions.assertFalse(deserialized.hasPet(PetType.CAT));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void removePet()
+    {
+        Person person = new Person("Alex", "Goldberg", 25);
+        person.addPet(PetType.HAMSTER, "Bobby", 1);
+        person.addPet(PetType.DOG, "Jackie", 2);
+
+        Assertions.assertTrue(person.removePet(new Pet(PetType.HAMSTER, "Bobby", 1)));
+        Assertions.assertEquals(1, person.getNumberOfPets());
+        Assertions.assertFalse(person.hasPet(PetType.HAMSTER));
+        Assertions.assertTrue(person.getPetsByAge(1).isEmpty());
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> person.getPetsByAge(1).add(new Pet(PetType.HAMSTER, "Bobby", 1)));
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> person.getPetsByType(PetType.DOG).add(new Pet(PetType.DOG, "Rex", 2)));
+        Assertions.assertFalse(person.hasPet(PetType.HAMSTER));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void readsJsonWithIndexes() throws JsonProcessingException
+    {
+        String json = "{\"firstName\":\"Alex\",\"lastName\":\"Goldberg\",\"age\":25,"
+                + "\"pets\":[{\"type\":\"DOG\",\"name\":\"Rex\",\"age\":3}],"
+                + "\"petsByAge\":{\"3\":[{\"type\":\"DOG\",\"name\":\"Rex\",\"age\":3}]},"
+                + "\"petsByType\":{\"DOG\":[{\"type\":\"DOG\",\"name\":\"Rex\",\"age\":3}]}}";
+
+        Person person = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport().readValue(json, Person.class);
+        Assertions.assertEquals(1, person.getNumberOfPets());
+        Assertions.assertEquals(Lists.mutable.with(new Pet(PetType.DOG, "Rex", 3)), person.getPetsByAge(3));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexesBuiltConcurrently() throws Exception
+    {
+        for (int run = 0; run < 20; run++)
+        {
+            Person person = new Person("Alex", "Goldberg", 25);
+            for (int i = 0; i < 10_000; i++)
+            {
+                person.addPet(PetType.values()[i % 6], "Pet" + i, i % 20);
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try
+            {
+                MutableList<Future<Integer>> sizes = Interval.oneTo(8)
+                        .collect(each -> executor.submit(() -> person.getPetsByAge(7).size()))
+                        .toList();
+                for (Future<Integer> size : sizes)
+                {
+                    Assertions.assertEquals(500, size.get());
+                }
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+        }
+    }
+}
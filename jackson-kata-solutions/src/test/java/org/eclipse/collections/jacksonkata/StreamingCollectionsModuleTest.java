@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.eclipse.collections.jacksonkata;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class StreamingCollectionsModuleTest
+{
+    private final ObjectMapper streaming = ObjectMapperUtils.createObjectMapperWithStreamingSupport();
+    private final ObjectMapper standard = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport();
+
+    private final MutableList<Pet> pets = Lists.mutable.with(
+            new Pet(PetType.CAT, "Tom", 3),
+            new Pet(PetType.DOG, "Rex", 3),
+            new Pet(PetType.BIRD, "Tweety", 2000));
+
+    @Test
+    @Tag("SOLUTION")
+    public void streamingSerializersTakePrecedence() throws JsonMappingException
+    {
+        TypeFactory types = this.streaming.getTypeFactory();
+        SerializerProvider serializers = this.streaming.getSerializerProviderInstance();
+
+        Assertions.assertSame(StreamingCollectionsModule.class, serializers.findValueSerializer(Pet.class).getClass().getEnclosingClass());
+        Assertions.assertSame(
+                StreamingCollectionsModule.class,
+                serializers.findValueSerializer(types.constructType(new TypeReference<MutableList<Pet>>() {})).getClass().getEnclosingClass());
+        Assertions.assertSame(
+                StreamingCollectionsModule.class,
+                serializers.findValueSerializer(types.constructType(new TypeReference<MutableIntObjectMap<MutableList<Pet>>>() {})).getClass().getEnclosingClass());
+        Assertions.assertNotSame(
+                StreamingCollectionsModule.class,
+                serializers.findValueSerializer(types.constructType(new TypeReference<MutableList<String>>() {})).getClass().getEnclosingClass());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void sameJsonAsEclipseCollectionsModule() throws JsonProcessingException
+    {
+        Person person = new Person("Alex", "Goldberg", 25);
+        this.pets.each(pet -> person.addPet(pet.getType(), pet.getName(), pet.getAge()));
+
+        Assertions.assertEquals(
+                this.standard.readTree(this.standard.writeValueAsString(person)),
+                this.standard.readTree(this.streaming.writeValueAsString(person)));
+        Assertions.assertEquals(
+                this.standard.writeValueAsString(this.pets),
+                this.streaming.writerFor(new TypeReference<MutableList<Pet>>() {}).writeValueAsString(this.pets));
+
+        Person deserialized = this.streaming.readValue(this.standard.writeValueAsString(person), Person.class);
+        Assertions.assertEquals(person.getImmutablePets(), deserialized.getImmutablePets());
+        Assertions.assertEquals(Lists.mutable.with(this.pets.get(2)), deserialized.getPetsByAge(2000));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void intObjectMapRoundTrip() throws JsonProcessingException
+    {
+        MutableIntObjectMap<MutableList<Pet>> petsByAge = IntObjectMaps.mutable.empty();
+        this.pets.each(pet -> petsByAge.getIfAbsentPut(pet.getAge(), Lists.mutable::empty).add(pet));
+        petsByAge.put(-1, Lists.mutable.empty());
+        TypeReference<MutableIntObjectMap<MutableList<Pet>>> type = new TypeReference<>() {};
+
+        String json = this.streaming.writerFor(type).writeValueAsString(petsByAge);
+        Assertions.assertEquals(this.standard.readTree(this.standard.writeValueAsString(petsByAge)), this.standard.readTree(json));
+        MutableIntObjectMap<MutableList<Pet>> deserialized = this.streaming.readValue(json, type);
+        Assertions.assertEquals(petsByAge, deserialized);
+        Assertions.assertEquals(petsByAge, this.streaming.readValue(this.standard.writeValueAsString(petsByAge), type));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void unknownPetFieldFails()
+    {
+        Assertions.assertThrows(
+                UnrecognizedPropertyException.class,
+                () -> this.streaming.readValue("[{\"type\":\"CAT\",\"name\":\"Tom\",\"colour\":\"black\"}]", new TypeReference<MutableList<Pet>>() {}));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void untypedValuesAreLeftToJackson() throws JsonProcessingException
+    {
+        String json = "{\"a\":1,\"pets\":[{\"type\":\"CAT\",\"name\":\"Tom\",\"age\":3}]}";
+        Assertions.assertEquals(this.standard.readValue(json, Object.class), this.streaming.readValue(json, Object.class));
+        Assertions.assertEquals(this.standard.readValue(json, Map.class), this.streaming.readValue(json, Map.class));
+        Assertions.assertEquals(
+                this.standard.readValue("[1,2]", Iterable.class),
+                this.streaming.readValue("[1,2]", Iterable.class));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void nullAgeReadsAsZero() throws JsonProcessingException
+    {
+        String json = "{\"type\":\"CAT\",\"name\":\"Tom\",\"age\":null}";
+        Assertions.assertEquals(new Pet(PetType.CAT, "Tom", 0), this.standard.readValue(json, Pet.class));
+        Assertions.assertEquals(new Pet(PetType.CAT, "Tom", 0), this.streaming.readValue(json, Pet.class));
+        Assertions.assertThrows(
+                MismatchedInputException.class,
+                () -> this.streaming.readerFor(Pet.class)
+                        .with(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+                        .readValue(json));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void unknownPetTypeFailsAsInvalidFormat()
+    {
+        String json = "{\"type\":\"DRAGON\",\"name\":\"Puff\",\"age\":3}";
+        Assertions.assertThrows(InvalidFormatException.class, () -> this.standard.readValue(json, Pet.class));
+        Assertions.assertThrows(InvalidFormatException.class, () -> this.streaming.readValue(json, Pet.class));
+        Assertions.assertThrows(
+                InvalidFormatException.class,
+                () -> this.streaming.readValue("[" + json + "]", new TypeReference<MutableList<Pet>>() {}));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void ageIsCoercedLikeTheBeanDeserializer() throws JsonProcessingException
+    {
+        String json = "{\"type\":\"CAT\",\"name\":\"Tom\",\"age\":\"3\"}";
+        Assertions.assertEquals(new Pet(PetType.CAT, "Tom", 3), this.standard.readValue(json, Pet.class));
+        Assertions.assertEquals(new Pet(PetType.CAT, "Tom", 3), this.streaming.readValue(json, Pet.class));
+        String notANumber = "{\"type\":\"CAT\",\"name\":\"Tom\",\"age\":\"three\"}";
+        Assertions.assertThrows(InvalidFormatException.class, () -> this.standard.readValue(notANumber, Pet.class));
+        Assertions.assertThrows(InvalidFormatException.class, () -> this.streaming.readValue(notANumber, Pet.class));
+    }
+}
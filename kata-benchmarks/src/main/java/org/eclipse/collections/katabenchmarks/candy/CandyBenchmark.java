@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.candy;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.candykata.Candy;
+import org.eclipse.collections.candykata.EnumBag;
+import org.eclipse.collections.candykata.SchoolGroup;
+import org.eclipse.collections.impl.collector.Collectors2;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the {@code topCandy} and {@code commonInTop10} queries of the candy kata over {@link #groups} school groups of
+ * 250 candies each, starting a second apart. The {@code Regenerated} methods draw every group's candy again with the
+ * {@link Random} stream and {@link Collectors2#toBag()} pipeline that {@link SchoolGroup#trickOrTreat()} used to run on
+ * each call, and {@link #topCandyRegeneratedEnumBag()} runs the same pipeline into {@link EnumBag#toEnumBag(Class)}.
+ * The {@code FirstCall} methods create new groups so the candy is counted into an {@code int[]} once per group, and the
+ * {@code Memoised} methods reuse groups whose bags are already computed. {@code topCandy} merges the groups into an
+ * {@link EnumBag}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CandyBenchmark
+{
+    private static final LocalDateTime START = LocalDateTime.of(2018, Month.OCTOBER, 31, 15, 0);
+    private static final long CANDY_COUNT = 250L;
+
+    @Param({"1000", "10000"})
+    public int groups;
+
+    private ImmutableList<LocalDateTime> times;
+    private ImmutableList<SchoolGroup> memoised;
+
+    @Setup
+    public void setUp()
+    {
+        this.times = Interval.zeroTo(this.groups - 1).collect(START::plusSeconds).toList().toImmutable();
+        this.memoised = this.times.collect(time -> SchoolGroup.of(time, CANDY_COUNT));
+        this.memoised.each(SchoolGroup::trickOrTreat);
+    }
+
+    @Benchmark
+    public MutableSet<Candy> topCandyRegenerated()
+    {
+        return topCandy(this.times.collect(CandyBenchmark::regenerate));
+    }
+
+    @Benchmark
+    public MutableSet<Candy> topCandyRegeneratedEnumBag()
+    {
+        return topCandy(this.times.collect(CandyBenchmark::regenerateEnumBag));
+    }
+
+    @Benchmark
+    public MutableSet<Candy> topCandyFirstCall()
+    {
+        return topCandy(this.times.collect(time -> SchoolGroup.of(time, CANDY_COUNT).trickOrTreat()));
+    }
+
+    @Benchmark
+    public MutableSet<Candy> topCandyMemoised()
+    {
+        return topCandy(this.memoised.collect(SchoolGroup::trickOrTreat));
+    }
+
+    @Benchmark
+    public MutableSet<Candy> commonInTop10Regenerated()
+    {
+        return commonInTop10(this.times.collect(CandyBenchmark::regenerate));
+    }
+
+    @Benchmark
+    public MutableSet<Candy> commonInTop10Memoised()
+    {
+        return commonInTop10(this.memoised.collect(SchoolGroup::trickOrTreat));
+    }
+
+    private static Bag<Candy> regenerate(LocalDateTime time)
+    {
+        return new Random(time.atZone(SchoolGroup.NEW_YORK).toEpochSecond())
+                .ints(0, Candy.values().length - 1)
+                .limit(CANDY_COUNT)
+                .mapToObj(i -> Candy.values()[i])
+                .collect(Collectors2.toBag());
+    }
+
+    private static Bag<Candy> regenerateEnumBag(LocalDateTime time)
+    {
+        return new Random(time.atZone(SchoolGroup.NEW_YORK).toEpochSecond())
+                .ints(0, Candy.values().length - 1)
+                .limit(CANDY_COUNT)
+                .mapToObj(i -> Candy.values()[i])
+                .collect(EnumBag.toEnumBag(Candy.class));
+    }
+
+    private static MutableSet<Candy> topCandy(ImmutableList<Bag<Candy>> bagsOfCandy)
+    {
+        MutableBag<Candy> bigBagOfCandy = EnumBag.empty(Candy.class);
+        bagsOfCandy.each(bag -> bag.forEachWithOccurrences(bigBagOfCandy::addOccurrences));
+        return bigBagOfCandy.topOccurrences(1).collect(ObjectIntPair::getOne).toSet();
+    }
+
+    private static MutableSet<Candy> commonInTop10(ImmutableList<Bag<Candy>> bagsOfCandy)
+    {
+        return bagsOfCandy.collect(bag -> bag.topOccurrences(10).collect(ObjectIntPair::getOne).toSet())
+                .reduce(MutableSet::intersect)
+                .get();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.candy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.candykata.Candy;
+import org.eclipse.collections.candykata.TrickOrTreatSimulation;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Answers the {@code topCandy} and {@code commonInTop10} queries for a city of {@link #groups} school groups of
+ * {@link #candies} candies each. {@code materialised} builds every group's bag with
+ * {@link TrickOrTreatSimulation#group(int)} and runs the kata queries over the list of bags, while {@code simulated}
+ * runs the same groups through {@link TrickOrTreatSimulation#run()} on {@link #threads} threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TrickOrTreatSimulationBenchmark
+{
+    private static final long SEED = 2022L;
+
+    @Param({"10000", "100000"})
+    public int groups;
+
+    @Param({"250", "10000"})
+    public int candies;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private ExecutorService executor;
+    private TrickOrTreatSimulation simulation;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.executor = Executors.newFixedThreadPool(this.threads);
+        this.simulation = new TrickOrTreatSimulation(
+                SEED,
+                this.groups,
+                this.candies,
+                this.executor,
+                TrickOrTreatSimulation.DEFAULT_BATCH_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Benchmark
+    public Object materialised()
+    {
+        MutableList<Bag<Candy>> bagsOfCandy = Interval.zeroTo(this.groups - 1).collect(this.simulation::group).toList();
+        MutableBag<Candy> bigBagOfCandy = Bags.mutable.empty();
+        bagsOfCandy.each(bag -> bag.forEachWithOccurrences(bigBagOfCandy::addOccurrences));
+        MutableSet<Candy> commonInTop10 = bagsOfCandy
+                .collect(bag -> bag.topOccurrences(10).collect(ObjectIntPair::getOne).toSet())
+                .reduce(MutableSet::intersect)
+                .get();
+        return new Object[]{bigBagOfCandy.topOccurrences(1), commonInTop10};
+    }
+
+    @Benchmark
+    public Object simulated()
+    {
+        TrickOrTreatSimulation.Result result = this.simulation.run();
+        return new Object[]{result.topCandy(1), result.commonInTop10()};
+    }
+}
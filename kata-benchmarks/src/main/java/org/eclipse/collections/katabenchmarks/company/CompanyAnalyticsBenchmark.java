@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.company;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.CompanyAnalytics;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.katabenchmarks.data.CompanyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shows how {@link CompanyAnalytics} scales with the number of threads in its executor. The company is built by
+ * {@link CompanyGenerator} and holds 100,000 customers with 10 orders of 10 line items each, 10,000,000 line items
+ * in total. The single threaded
+ * {@code sumByDouble} answers from Exercise 8 are included as a baseline and do not depend on {@link #threads}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompanyAnalyticsBenchmark
+{
+    private static final int CUSTOMER_COUNT = 100_000;
+    private static final int ORDERS_PER_CUSTOMER = 10;
+    private static final int LINE_ITEMS_PER_ORDER = 10;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    private Company company;
+    private ExecutorService executor;
+    private CompanyAnalytics analytics;
+
+    @Setup
+    public void setUp()
+    {
+        this.company = new CompanyGenerator().company(CUSTOMER_COUNT, ORDERS_PER_CUSTOMER, LINE_ITEMS_PER_ORDER);
+        this.executor = Executors.newFixedThreadPool(this.threads);
+        this.analytics = new CompanyAnalytics(this.company, this.executor, this.batchSize);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> totalOrderValuesByCitySerial()
+    {
+        return this.company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> totalOrderValuesByCityParallel()
+    {
+        return this.analytics.totalOrderValuesByCity();
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> totalOrderValuesByItemSerial()
+    {
+        return this.company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> totalOrderValuesByItemParallel()
+    {
+        return this.analytics.totalOrderValuesByItem();
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<Customer> mostExpensiveItemParallel()
+    {
+        return this.analytics.mostExpensiveItem();
+    }
+}
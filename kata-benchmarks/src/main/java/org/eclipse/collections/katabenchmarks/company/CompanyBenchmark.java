@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.company;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.katabenchmarks.data.CompanyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares eager, lazy and parallel Eclipse Collections with Java Streams for {@link Company#getOrders()} and
+ * {@link Customer#getTotalOrderValue()}, on a company built by {@link CompanyGenerator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompanyBenchmark
+{
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"1000", "100000"})
+    public int customerCount;
+
+    @Param("3")
+    public int ordersPerCustomer;
+
+    @Param("5")
+    public int lineItemsPerOrder;
+
+    private Company company;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp()
+    {
+        this.company = new CompanyGenerator().company(this.customerCount, this.ordersPerCustomer, this.lineItemsPerOrder);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public MutableList<Order> getOrdersEcEager()
+    {
+        return this.company.getCustomers().flatCollect(Customer::getOrders);
+    }
+
+    @Benchmark
+    public MutableList<Order> getOrdersEcLazy()
+    {
+        return this.company.getCustomers().asLazy().flatCollect(Customer::getOrders).toList();
+    }
+
+    @Benchmark
+    public MutableList<Order> getOrdersEcParallel()
+    {
+        return this.company.getCustomers().asParallel(this.executor, BATCH_SIZE).flatCollect(Customer::getOrders).toList();
+    }
+
+    @Benchmark
+    public List<Order> getOrdersJdkStream()
+    {
+        return this.company.getCustomers().stream()
+                .flatMap(customer -> customer.getOrders().stream())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public double totalOrderValueEcEager()
+    {
+        return this.company.getCustomers().sumOfDouble(Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public double totalOrderValueEcLazy()
+    {
+        return this.company.getCustomers().asLazy().sumOfDouble(Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public double totalOrderValueEcParallel()
+    {
+        return this.company.getCustomers().asParallel(this.executor, BATCH_SIZE).sumOfDouble(Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public double totalOrderValueJdkStream()
+    {
+        return this.company.getCustomers().stream()
+                .mapToDouble(Customer::getTotalOrderValue)
+                .sum();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.company;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.ConcurrentCompany;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.katabenchmarks.data.CompanyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures order ingestion throughput at 1, 4, 16 and 64 threads. {@link ConcurrentCompany} locks one stripe per
+ * order, while the baseline guards a plain {@link Company} with a single lock. The companies are rebuilt for every
+ * iteration so the heap does not fill up with orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConcurrentCompanyBenchmark
+{
+    private static final int CUSTOMER_COUNT = 10_000;
+    private static final LineItem LINE_ITEM = new LineItem("gnome", 7.5);
+
+    private final CompanyGenerator generator = new CompanyGenerator();
+
+    private ConcurrentCompany concurrentCompany;
+    private Company company;
+    private Customer[] concurrentCustomers;
+    private Customer[] customers;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.concurrentCompany = new ConcurrentCompany("Bloggs Shed Supplies");
+        this.company = new Company("Bloggs Shed Supplies");
+        this.concurrentCustomers = this.generator.customers(CUSTOMER_COUNT, 0, 0).toArray(new Customer[CUSTOMER_COUNT]);
+        this.customers = this.generator.customers(CUSTOMER_COUNT, 0, 0).toArray(new Customer[CUSTOMER_COUNT]);
+        ArrayIterate.forEach(this.concurrentCustomers, this.concurrentCompany::addCustomer);
+        ArrayIterate.forEach(this.customers, this.company::addCustomer);
+    }
+
+    private static Order newOrder()
+    {
+        Order order = new Order();
+        order.addLineItem(LINE_ITEM);
+        return order;
+    }
+
+    private void addOrderStriped()
+    {
+        Customer customer = this.concurrentCustomers[ThreadLocalRandom.current().nextInt(CUSTOMER_COUNT)];
+        this.concurrentCompany.addOrder(customer, newOrder());
+    }
+
+    private void addOrderSingleLock()
+    {
+        Customer customer = this.customers[ThreadLocalRandom.current().nextInt(CUSTOMER_COUNT)];
+        Order order = newOrder();
+        synchronized (this.company)
+        {
+            customer.addOrder(order);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void stripedLocks01()
+    {
+        this.addOrderStriped();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void stripedLocks04()
+    {
+        this.addOrderStriped();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void stripedLocks16()
+    {
+        this.addOrderStriped();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void stripedLocks64()
+    {
+        this.addOrderStriped();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void singleLock01()
+    {
+        this.addOrderSingleLock();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void singleLock04()
+    {
+        this.addOrderSingleLock();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void singleLock16()
+    {
+        this.addOrderSingleLock();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void singleLock64()
+    {
+        this.addOrderSingleLock();
+    }
+}
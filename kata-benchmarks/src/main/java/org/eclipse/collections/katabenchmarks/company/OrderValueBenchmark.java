@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.company;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.katabenchmarks.data.CompanyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares recomputing order totals from every {@link LineItem} with reading the running totals kept by
+ * {@link Order#getValue()}, {@link Customer#getTotalOrderValue()} and {@link Company#getTotalRevenue()}.
+ * The company is built by {@link CompanyGenerator} and holds 10,000 customers with 10 orders of 10 line items each, 1,000,000 line items in total.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderValueBenchmark
+{
+    private static final int CUSTOMER_COUNT = 10_000;
+    private static final int ORDERS_PER_CUSTOMER = 10;
+    private static final int LINE_ITEMS_PER_ORDER = 10;
+
+    private Company company;
+
+    @Setup
+    public void setUp()
+    {
+        this.company = new CompanyGenerator().company(CUSTOMER_COUNT, ORDERS_PER_CUSTOMER, LINE_ITEMS_PER_ORDER);
+    }
+
+    @Benchmark
+    public double totalRevenueRecomputed()
+    {
+        return this.company.getCustomers().sumOfDouble(customer -> customer.getOrders()
+                .sumOfDouble(order -> order.getLineItems().sumOfDouble(LineItem::getValue)));
+    }
+
+    @Benchmark
+    public double totalRevenueRunningTotal()
+    {
+        return this.company.getTotalRevenue();
+    }
+
+    @Benchmark
+    public double customerTotalsRecomputed()
+    {
+        return this.company.getCustomers().asLazy()
+                .collectDouble(customer -> customer.getOrders()
+                        .sumOfDouble(order -> order.getLineItems().sumOfDouble(LineItem::getValue)))
+                .max();
+    }
+
+    @Benchmark
+    public double customerTotalsRunningTotal()
+    {
+        return this.company.getCustomers().asLazy()
+                .collectDouble(Customer::getTotalOrderValue)
+                .max();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.companykata.Supplier;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+
+/**
+ * Generates customers, orders and suppliers for the company kata at any size.
+ * <p/>
+ * Cities and items are drawn from {@link ZipfDistribution}s, so London and sheds are far more popular than the tail
+ * of the catalogue. Each item name always has the same price. Customers and suppliers are returned as
+ * {@link LazyIterable}s that build each element only when it is reached, so only the {@link Company} being filled
+ * holds on to them. Every customer is generated from its own random seed derived from the generator's seed and the
+ * customer's index, so the same seed always gives the same data no matter how it is iterated.
+ */
+public class CompanyGenerator
+{
+    public static final long DEFAULT_SEED = 42L;
+    public static final int DEFAULT_CATALOGUE_SIZE = 1_000;
+    public static final double DEFAULT_EXPONENT = 1.0;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int ITEMS_PER_SUPPLIER = 3;
+    private static final String[] CITIES = {
+            "London", "Liphook", "Manchester", "Birmingham", "Leeds", "Glasgow", "Liverpool", "Bristol", "Sheffield",
+            "Edinburgh", "Cardiff", "Leicester", "Nottingham", "Newcastle", "Brighton", "Southampton", "Portsmouth",
+            "Oxford", "Cambridge", "York"};
+    private static final String[] KATA_ITEM_NAMES =
+            {"shed", "big shed", "cup", "saucer", "bowl", "dog", "cat", "gnome", "table", "sofa", "chair", "kettle"};
+
+    private final long seed;
+    private final ZipfDistribution cities;
+    private final ZipfDistribution items;
+    private final String[] itemNames;
+    private final double[] itemPrices;
+
+    public CompanyGenerator()
+    {
+        this(DEFAULT_SEED);
+    }
+
+    public CompanyGenerator(long seed)
+    {
+        this(seed, DEFAULT_CATALOGUE_SIZE, DEFAULT_EXPONENT);
+    }
+
+    public CompanyGenerator(long seed, int catalogueSize, double exponent)
+    {
+        this.seed = seed;
+        this.cities = new ZipfDistribution(CITIES.length, exponent);
+        this.items = new ZipfDistribution(catalogueSize, exponent);
+        this.itemNames = new String[catalogueSize];
+        this.itemPrices = new double[catalogueSize];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < catalogueSize; i++)
+        {
+            this.itemNames[i] = i < KATA_ITEM_NAMES.length ? KATA_ITEM_NAMES[i] : "item" + i;
+            this.itemPrices[i] = random.nextInt(500) + 0.5;
+        }
+    }
+
+    static SplittableRandom randomFor(long seed, long index)
+    {
+        return new SplittableRandom(seed + index * GOLDEN_GAMMA);
+    }
+
+    public String getItemName(int rank)
+    {
+        return this.itemNames[rank];
+    }
+
+    public LazyIterable<Customer> customers(int count, int ordersPerCustomer, int lineItemsPerOrder)
+    {
+        if (count == 0)
+        {
+            return Lists.immutable.<Customer>empty().asLazy();
+        }
+        return Interval.zeroTo(count - 1).asLazy()
+                .collect(index -> this.customer(index, ordersPerCustomer, lineItemsPerOrder));
+    }
+
+    public Customer customer(int index, int ordersPerCustomer, int lineItemsPerOrder)
+    {
+        SplittableRandom random = randomFor(this.seed, index);
+        Customer customer = new Customer("Customer" + index, CITIES[this.cities.sample(random)]);
+        for (int o = 0; o < ordersPerCustomer; o++)
+        {
+            Order order = new Order();
+            for (int i = 0; i < lineItemsPerOrder; i++)
+            {
+                int item = this.items.sample(random);
+                order.addLineItem(new LineItem(this.itemNames[item], this.itemPrices[item]));
+            }
+            customer.addOrder(order);
+        }
+        return customer;
+    }
+
+    /**
+     * Returns suppliers that each sell {@value #ITEMS_PER_SUPPLIER} consecutive items of the catalogue, wrapping
+     * around when there are more suppliers than the catalogue needs.
+     */
+    public LazyIterable<Supplier> suppliers(int count)
+    {
+        if (count == 0)
+        {
+            return Lists.immutable.<Supplier>empty().asLazy();
+        }
+        return Interval.zeroTo(count - 1).asLazy().collect(this::supplier);
+    }
+
+    public Supplier supplier(int index)
+    {
+        String[] names = new String[ITEMS_PER_SUPPLIER];
+        for (int i = 0; i < ITEMS_PER_SUPPLIER; i++)
+        {
+            names[i] = this.itemNames[(index * ITEMS_PER_SUPPLIER + i) % this.itemNames.length];
+        }
+        return new Supplier("Supplier" + index, names);
+    }
+
+    /**
+     * Builds a company with the given number of customers and enough suppliers to cover the catalogue.
+     */
+    public Company company(int customerCount, int ordersPerCustomer, int lineItemsPerOrder)
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        this.fill(company, customerCount, ordersPerCustomer, lineItemsPerOrder);
+        return company;
+    }
+
+    /**
+     * Adds the generated customers and suppliers to an existing company, such as a
+     * {@link org.eclipse.collections.companykata.ConcurrentCompany}.
+     */
+    public <C extends Company> C fill(C company, int customerCount, int ordersPerCustomer, int lineItemsPerOrder)
+    {
+        int supplierCount = (this.itemNames.length + ITEMS_PER_SUPPLIER - 1) / ITEMS_PER_SUPPLIER;
+        this.suppliers(supplierCount).each(company::addSupplier);
+        this.customers(customerCount, ordersPerCustomer, lineItemsPerOrder).each(company::addCustomer);
+        return company;
+    }
+}
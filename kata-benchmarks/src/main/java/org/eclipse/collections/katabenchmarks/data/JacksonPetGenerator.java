@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.jacksonkata.Person;
+import org.eclipse.collections.jacksonkata.Pet;
+import org.eclipse.collections.jacksonkata.PetType;
+
+/**
+ * Generates the pets of the jackson kata at any size, for the benchmarks that write, read and index them.
+ * <p/>
+ * Pet types are drawn from a {@link ZipfDistribution} as in {@link PetGenerator}, names from {@link #NAMES} names and
+ * ages between one and {@link #MAX_AGE}. Every pet is built from a seed derived from the generator's seed and its
+ * index, so {@link #person(int)} and {@link #petsByAge(int)} hold the same pets for the same count.
+ */
+public class JacksonPetGenerator
+{
+    public static final long DEFAULT_SEED = 42L;
+    public static final double DEFAULT_EXPONENT = 1.0;
+    public static final int MAX_AGE = 20;
+    public static final int NAMES = 1000;
+
+    private static final PetType[] PET_TYPES = PetType.values();
+
+    private final long seed;
+    private final ZipfDistribution petTypes;
+
+    public JacksonPetGenerator()
+    {
+        this(DEFAULT_SEED);
+    }
+
+    public JacksonPetGenerator(long seed)
+    {
+        this(seed, DEFAULT_EXPONENT);
+    }
+
+    public JacksonPetGenerator(long seed, double exponent)
+    {
+        this.seed = seed;
+        this.petTypes = new ZipfDistribution(PET_TYPES.length, exponent);
+    }
+
+    public LazyIterable<Pet> pets(int count)
+    {
+        if (count == 0)
+        {
+            return Lists.immutable.<Pet>empty().asLazy();
+        }
+        return Interval.zeroTo(count - 1)
+                .asLazy()
+                .collect(index -> this.pet(CompanyGenerator.randomFor(this.seed, index)));
+    }
+
+    /**
+     * Returns one person owning {@code petCount} pets.
+     */
+    public Person person(int petCount)
+    {
+        Person person = new Person("Alex", "Goldberg", 25);
+        this.pets(petCount).each(pet -> person.addPet(pet.getType(), pet.getName(), pet.getAge()));
+        return person;
+    }
+
+    /**
+     * Returns {@code petCount} pets grouped by age, in the order they are generated.
+     */
+    public MutableIntObjectMap<MutableList<Pet>> petsByAge(int petCount)
+    {
+        MutableIntObjectMap<MutableList<Pet>> petsByAge = IntObjectMaps.mutable.empty();
+        this.pets(petCount).each(pet -> petsByAge.getIfAbsentPut(pet.getAge(), Lists.mutable::empty).add(pet));
+        return petsByAge;
+    }
+
+    private Pet pet(SplittableRandom random)
+    {
+        return new Pet(
+                PET_TYPES[this.petTypes.sample(random)],
+                "Pet" + random.nextInt(NAMES),
+                random.nextInt(MAX_AGE) + 1);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.petkata.Person;
+import org.eclipse.collections.petkata.Pet;
+import org.eclipse.collections.petkata.PetType;
+
+/**
+ * Generates people and pets for the pet kata at any size.
+ * <p/>
+ * Pet types, last names and the number of pets per person are drawn from {@link ZipfDistribution}s, so cats and dogs
+ * are common, snakes are rare and most people own one pet. Like {@link CompanyGenerator}, every person or pet is built
+ * lazily from a seed derived from the generator's seed and its index.
+ */
+public class PetGenerator
+{
+    public static final long DEFAULT_SEED = 42L;
+    public static final double DEFAULT_EXPONENT = 1.0;
+    public static final int MAX_AGE = 20;
+
+    private static final String[] FIRST_NAMES = {
+            "Mary", "Bob", "Ted", "Jake", "Barry", "Terry", "Harry", "John", "Alice", "Sarah", "James", "Emma", "Oliver",
+            "Sophie", "Jack", "Lucy", "George", "Grace", "Henry", "Chloe"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Jones", "Taylor", "Brown", "Williams", "Wilson", "Johnson", "Davies", "Robinson", "Wright",
+            "Thompson", "Evans", "Walker", "White", "Roberts", "Green", "Hall", "Wood", "Jackson", "Clarke"};
+    private static final String[] PET_NAMES = {
+            "Tabby", "Dolly", "Spot", "Spike", "Serpy", "Tweety", "Speedy", "Fuzzy", "Wuzzy", "Rex", "Max", "Bella",
+            "Luna", "Milo", "Coco", "Daisy", "Oscar", "Rosie", "Toby", "Poppy"};
+    private static final PetType[] PET_TYPES = PetType.values();
+
+    private final long seed;
+    private final double exponent;
+    private final ZipfDistribution petTypes;
+    private final ZipfDistribution lastNames;
+
+    public PetGenerator()
+    {
+        this(DEFAULT_SEED);
+    }
+
+    public PetGenerator(long seed)
+    {
+        this(seed, DEFAULT_EXPONENT);
+    }
+
+    public PetGenerator(long seed, double exponent)
+    {
+        this.seed = seed;
+        this.exponent = exponent;
+        this.petTypes = new ZipfDistribution(PET_TYPES.length, exponent);
+        this.lastNames = new ZipfDistribution(LAST_NAMES.length, exponent);
+    }
+
+    /**
+     * Returns people that each own between one and {@code maxPetsPerPerson} pets.
+     */
+    public LazyIterable<Person> people(int count, int maxPetsPerPerson)
+    {
+        if (count == 0)
+        {
+            return Lists.immutable.<Person>empty().asLazy();
+        }
+        ZipfDistribution petCounts = new ZipfDistribution(maxPetsPerPerson, this.exponent);
+        return Interval.zeroTo(count - 1).asLazy().collect(index -> this.person(index, petCounts));
+    }
+
+    private Person person(int index, ZipfDistribution petCounts)
+    {
+        SplittableRandom random = CompanyGenerator.randomFor(this.seed, index);
+        Person person = new Person(
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + index,
+                LAST_NAMES[this.lastNames.sample(random)]);
+        int petCount = petCounts.sample(random) + 1;
+        for (int i = 0; i < petCount; i++)
+        {
+            Pet pet = this.pet(random);
+            person.addPet(pet.getType(), pet.getName(), pet.getAge());
+        }
+        return person;
+    }
+
+    /**
+     * Returns a single person owning {@code petCount} pets, for benchmarks that need one very large pet list.
+     */
+    public Person personWithPets(int petCount)
+    {
+        Person person = new Person("Mary", "Smith");
+        this.pets(petCount).each(pet -> person.addPet(pet.getType(), pet.getName(), pet.getAge()));
+        return person;
+    }
+
+    public LazyIterable<Pet> pets(int count)
+    {
+        if (count == 0)
+        {
+            return Lists.immutable.<Pet>empty().asLazy();
+        }
+        return Interval.zeroTo(count - 1).asLazy().collect(index -> this.pet(CompanyGenerator.randomFor(this.seed, index)));
+    }
+
+    private Pet pet(SplittableRandom random)
+    {
+        return new Pet(
+                PET_TYPES[this.petTypes.sample(random)],
+                PET_NAMES[random.nextInt(PET_NAMES.length)],
+                random.nextInt(MAX_AGE) + 1);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+
+/**
+ * Generates dictionaries of distinct five letter words for the Wordle benchmarks. Letters are drawn from a
+ * {@link ZipfDistribution} over English letter frequency order, so the words share letters about as often as real
+ * ones do. The real Wordle lists have about {@value #GUESS_COUNT} allowed guesses, of which {@value #ANSWER_COUNT}
+ * can be answers.
+ */
+public class WordGenerator
+{
+    public static final int GUESS_COUNT = 12_972;
+    public static final int ANSWER_COUNT = 2_315;
+
+    private static final String LETTERS_BY_FREQUENCY = "etaoinshrdlcumwfgypbvkjxqz";
+
+    private final long seed;
+    private final ZipfDistribution letters = new ZipfDistribution(LETTERS_BY_FREQUENCY.length(), 0.8);
+
+    public WordGenerator()
+    {
+        this(42L);
+    }
+
+    public WordGenerator(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns {@code count} distinct words in the order they were generated.
+     */
+    public ImmutableList<String> words(int count)
+    {
+        SplittableRandom random = new SplittableRandom(this.seed);
+        MutableSet<String> seen = Sets.mutable.withInitialCapacity(count);
+        MutableList<String> words = Lists.mutable.withInitialCapacity(count);
+        char[] chars = new char[5];
+        while (words.size() < count)
+        {
+            for (int i = 0; i < chars.length; i++)
+            {
+                chars[i] = LETTERS_BY_FREQUENCY.charAt(this.letters.sample(random));
+            }
+            String word = new String(chars);
+            if (seen.add(word))
+            {
+                words.add(word);
+            }
+        }
+        return words.toImmutable();
+    }
+
+    public ImmutableList<String> guesses()
+    {
+        return this.words(GUESS_COUNT);
+    }
+
+    /**
+     * Returns the first {@value #ANSWER_COUNT} of {@link #guesses()}.
+     */
+    public ImmutableList<String> answers()
+    {
+        return this.guesses().take(ANSWER_COUNT);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks {@code 0..size-1} where rank {@code k} is drawn with probability proportional to
+ * {@code 1 / (k + 1)^exponent}, so a few ranks are very popular and the rest form a long tail.
+ */
+public class ZipfDistribution
+{
+    private final double[] cumulativeWeights;
+
+    public ZipfDistribution(int size, double exponent)
+    {
+        if (size < 1)
+        {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        this.cumulativeWeights = new double[size];
+        double total = 0.0;
+        for (int rank = 0; rank < size; rank++)
+        {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            this.cumulativeWeights[rank] = total;
+        }
+    }
+
+    public int size()
+    {
+        return this.cumulativeWeights.length;
+    }
+
+    public int sample(SplittableRandom random)
+    {
+        double target = random.nextDouble() * this.cumulativeWeights[this.cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(this.cumulativeWeights, target);
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(rank, this.cumulativeWeights.length - 1);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.haiku;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.haikukata.CodePointTextProfile;
+import org.eclipse.collections.haikukata.HaikuCollection;
+import org.eclipse.collections.haikukata.TextProcessorEC;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.string.immutable.CodePointAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what counting letters by code point costs compared with the char based {@link CharAdapter} counting used
+ * by {@link TextProcessorEC}. The haiku text is repeated {@link #copies} times, with its curly apostrophes replaced
+ * so the input is plain ASCII. The target is for {@link CodePointTextProfile} to keep at least 90% of the throughput
+ * of {@link #charAdapter()}; {@link #codePointAdapter()} is the straightforward correct version for reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodePointBenchmark
+{
+    @Param({"1", "1000"})
+    public int copies;
+
+    private String text;
+
+    @Setup
+    public void setUp()
+    {
+        this.text = new HaikuCollection().getText().replace('’', '\'').repeat(this.copies);
+    }
+
+    @Benchmark
+    public MutableCharBag charAdapter()
+    {
+        return CharAdapter.adapt(this.text)
+                .select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .toBag();
+    }
+
+    @Benchmark
+    public MutableIntBag codePointAdapter()
+    {
+        return CodePointAdapter.adapt(this.text)
+                .select(Character::isAlphabetic)
+                .collectInt(Character::toLowerCase)
+                .toBag();
+    }
+
+    @Benchmark
+    public CodePointTextProfile codePointTextProfile()
+    {
+        return CodePointTextProfile.of(this.text);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.haiku;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.api.tuple.primitive.CharIntPair;
+import org.eclipse.collections.haikukata.HaikuCollection;
+import org.eclipse.collections.haikukata.TextProcessorEC;
+import org.eclipse.collections.haikukata.TextProcessorJDK;
+import org.eclipse.collections.haikukata.TextProfile;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares eager, lazy and parallel Eclipse Collections with Java Streams for the letter counting in
+ * {@link TextProcessorEC#duplicatesAndUnique()} and {@link TextProcessorJDK#duplicatesAndUnique()}. The haiku text
+ * is repeated {@link #copies} times so the larger sizes are worth spreading across cores. The last pair compares
+ * answering all four letter questions with separate passes against one {@link TextProfile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HaikuBenchmark
+{
+    @Param({"1", "1000"})
+    public int copies;
+
+    private String text;
+    private ExecutorService executor;
+    private int chunkCount;
+
+    @Setup
+    public void setUp()
+    {
+        this.text = new HaikuCollection().getText().repeat(this.copies);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.chunkCount = Runtime.getRuntime().availableProcessors();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUniqueEcEager()
+    {
+        MutableCharBag chars = CharAdapter.adapt(this.text)
+                .select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .toBag();
+        return Tuples.triple(chars, chars.selectDuplicates(), chars.selectUnique());
+    }
+
+    @Benchmark
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUniqueEcLazy()
+    {
+        MutableCharBag chars = CharAdapter.adapt(this.text)
+                .asLazy()
+                .select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .toBag();
+        return Tuples.triple(chars, chars.selectDuplicates(), chars.selectUnique());
+    }
+
+    @Benchmark
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUniqueEcParallel()
+    {
+        int chunkSize = (this.text.length() + this.chunkCount - 1) / this.chunkCount;
+        MutableCharBag chars = Interval.zeroTo(this.chunkCount - 1)
+                .toList()
+                .asParallel(this.executor, 1)
+                .collect(chunk -> this.countLetters(
+                        chunk * chunkSize,
+                        Math.min(this.text.length(), (chunk + 1) * chunkSize)))
+                .toList()
+                .injectInto(CharBags.mutable.empty(), (result, each) -> {
+                    each.forEachWithOccurrences(result::addOccurrences);
+                    return result;
+                });
+        return Tuples.triple(chars, chars.selectDuplicates(), chars.selectUnique());
+    }
+
+    @Benchmark
+    public Object[] allLetterQuestionsSeparately()
+    {
+        CharAdapter chars = CharAdapter.adapt(this.text);
+        MutableCharBag topLetters = chars.select(Character::isAlphabetic).collectChar(Character::toLowerCase).toBag();
+        String distinctLetters = chars.select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .distinct()
+                .toString();
+        Triple<CharBag, CharBag, CharSet> duplicatesAndUnique = this.duplicatesAndUniqueEcEager();
+        MutableList<CharIntPair> occurrences = chars.select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .toBag()
+                .topOccurrences(26);
+        return new Object[]{topLetters.topOccurrences(3), distinctLetters, duplicatesAndUnique, occurrences};
+    }
+
+    @Benchmark
+    public TextProfile allLetterQuestionsFused()
+    {
+        return TextProfile.of(this.text);
+    }
+
+    @Benchmark
+    public TextProcessorJDK.CharCountsDuplicatesUnique duplicatesAndUniqueJdkStream()
+    {
+        Map<Character, Long> chars = this.text.chars()
+                .filter(Character::isLetter)
+                .mapToObj(ch -> (char) ch)
+                .map(Character::toLowerCase)
+                .collect(Collectors.groupingBy(c -> c, Collectors.counting()));
+        Map<Character, Long> duplicates = chars.entrySet().stream()
+                .filter(entry -> 1L < entry.getValue())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new TextProcessorJDK.CharCountsDuplicatesUnique(
+                chars,
+                duplicates,
+                chars.entrySet().stream()
+                        .filter(entry -> 2L > entry.getValue())
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toSet()));
+    }
+
+    private MutableCharBag countLetters(int from, int to)
+    {
+        MutableCharBag chars = CharBags.mutable.empty();
+        for (int i = from; i < to; i++)
+        {
+            char each = this.text.charAt(i);
+            if (Character.isAlphabetic(each))
+            {
+                chars.add(Character.toLowerCase(each));
+            }
+        }
+        return chars;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.haiku;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.haikukata.HaikuCollection;
+import org.eclipse.collections.haikukata.ParallelTextProcessor;
+import org.eclipse.collections.haikukata.TextProcessorEC;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single threaded {@link CharAdapter} letter counting of {@link TextProcessorEC#duplicatesAndUnique()}
+ * with {@link ParallelTextProcessor#duplicatesAndUnique()} on {@link #megabytes} of text. The haiku text is repeated
+ * to the requested size, with the curly apostrophes replaced so the string stays in the compact Latin-1 encoding and
+ * the 1 GB input fits in the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HaikuParallelBenchmark
+{
+    private static final int MEGABYTE = 1 << 20;
+
+    @Param({"1", "100", "1000"})
+    public int megabytes;
+
+    @Param({"1", "4", "16"})
+    public int threads;
+
+    private String text;
+    private ExecutorService executor;
+    private ParallelTextProcessor processor;
+
+    @Setup
+    public void setUp()
+    {
+        String haiku = new HaikuCollection().getText().replace('’', '\'');
+        int length = Math.multiplyExact(this.megabytes, MEGABYTE);
+        this.text = haiku.repeat(length / haiku.length() + 1).substring(0, length);
+        this.executor = Executors.newFixedThreadPool(this.threads);
+        this.processor = new ParallelTextProcessor(this.text, this.executor, this.threads * 4);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUniqueSerial()
+    {
+        MutableCharBag chars = CharAdapter.adapt(this.text)
+                .select(Character::isAlphabetic)
+                .collectChar(Character::toLowerCase)
+                .toBag();
+        return Tuples.triple(chars, chars.selectDuplicates(), chars.selectUnique());
+    }
+
+    @Benchmark
+    public Triple<CharBag, CharBag, CharSet> duplicatesAndUniqueParallel()
+    {
+        return this.processor.duplicatesAndUnique();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.haiku;
+
+import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.haikukata.HaikuCollection;
+import org.eclipse.collections.haikukata.TextProcessorEC;
+import org.eclipse.collections.haikukata.TextProcessorJDK;
+import org.eclipse.collections.haikukata.TextProfile;
+import org.eclipse.collections.haikukata.WordleWordTokenizer;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.utility.StringIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the token-per-String approaches of {@link TextProcessorEC#findWordleWords()} and
+ * {@link TextProcessorJDK#findWordleWords()} with {@link WordleWordTokenizer}, on the haiku text repeated
+ * {@link #copies} times. The char array is copied from the text once in setup, as a caller reading a file would
+ * already hold one. Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WordleWordsBenchmark
+{
+    @Param({"1", "1000"})
+    public int copies;
+
+    private String text;
+    private char[] chars;
+
+    @Setup
+    public void setUp()
+    {
+        this.text = new HaikuCollection().getText().repeat(this.copies);
+        this.chars = this.text.toCharArray();
+    }
+
+    @Benchmark
+    public MutableSet<String> ecForEachToken()
+    {
+        MutableList<String> words = Lists.mutable.empty();
+        StringIterate.forEachToken(this.text, TextProfile.WORD_DELIMITERS, words::add);
+        return words.select(word -> word.length() == 5)
+                .reject(word -> word.contains("'"))
+                .collect(String::toLowerCase)
+                .toSet();
+    }
+
+    @Benchmark
+    public Set<String> jdkScanner()
+    {
+        return new Scanner(this.text).useDelimiter("[\\s,.!?-]+").tokens()
+                .filter(word -> word.length() == 5)
+                .filter(word -> !word.contains("'"))
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public MutableSet<String> charArrayTokenizer()
+    {
+        return WordleWordTokenizer.findWordleWords(this.chars);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.jacksonkata.CompactBinaryCodec;
+import org.eclipse.collections.jacksonkata.ObjectMapperUtils;
+import org.eclipse.collections.jacksonkata.Person;
+import org.eclipse.collections.jacksonkata.Pet;
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link CompactBinaryCodec} with JSON written and read by the fastest mapper from
+ * {@link ObjectMapperUtils#createObjectMapperWithStreamingSupport()}, for a {@link Person} with {@link #petCount} pets
+ * and for a {@code petsByAge} map on its own, both holding the same pets from a {@link JacksonPetGenerator}.
+ * {@link #getJsonPersonSize()} and the related methods return the size of each encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompactBinaryCodecBenchmark
+{
+    private static final TypeReference<MutableIntObjectMap<MutableList<Pet>>> PETS_BY_AGE = new TypeReference<>() {};
+
+    @Param({"1000", "1000000"})
+    public int petCount;
+
+    private Person person;
+    private MutableIntObjectMap<MutableList<Pet>> petsByAge;
+    private byte[] personJson;
+    private byte[] petsByAgeJson;
+    private ByteBuffer personBinary;
+    private ByteBuffer petsByAgeBinary;
+
+    private ObjectWriter personWriter;
+    private ObjectReader personReader;
+    private ObjectWriter petsByAgeWriter;
+    private ObjectReader petsByAgeReader;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        JacksonPetGenerator generator = new JacksonPetGenerator();
+        this.person = generator.person(this.petCount);
+        this.petsByAge = generator.petsByAge(this.petCount);
+
+        ObjectMapper objectMapper = ObjectMapperUtils.createObjectMapperWithStreamingSupport();
+        this.personWriter = objectMapper.writerFor(Person.class);
+        this.personReader = objectMapper.readerFor(Person.class);
+        this.petsByAgeWriter = objectMapper.writerFor(PETS_BY_AGE);
+        this.petsByAgeReader = objectMapper.readerFor(PETS_BY_AGE);
+
+        this.personJson = this.personWriter.writeValueAsBytes(this.person);
+        this.petsByAgeJson = this.petsByAgeWriter.writeValueAsBytes(this.petsByAge);
+        this.personBinary = CompactBinaryCodec.encode(this.person);
+        this.petsByAgeBinary = CompactBinaryCodec.encodePetsByAge(this.petsByAge);
+    }
+
+    public int getJsonPersonSize()
+    {
+        return this.personJson.length;
+    }
+
+    public int getBinaryPersonSize()
+    {
+        return this.personBinary.remaining();
+    }
+
+    public int getJsonPetsByAgeSize()
+    {
+        return this.petsByAgeJson.length;
+    }
+
+    public int getBinaryPetsByAgeSize()
+    {
+        return this.petsByAgeBinary.remaining();
+    }
+
+    @Benchmark
+    public byte[] encodePersonJson() throws IOException
+    {
+        return this.personWriter.writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public ByteBuffer encodePersonBinary()
+    {
+        return CompactBinaryCodec.encode(this.person);
+    }
+
+    @Benchmark
+    public Person decodePersonJson() throws IOException
+    {
+        return this.personReader.readValue(this.personJson);
+    }
+
+    @Benchmark
+    public Person decodePersonBinary()
+    {
+        return CompactBinaryCodec.decodePerson(this.personBinary.duplicate());
+    }
+
+    @Benchmark
+    public byte[] encodePetsByAgeJson() throws IOException
+    {
+        return this.petsByAgeWriter.writeValueAsBytes(this.petsByAge);
+    }
+
+    @Benchmark
+    public ByteBuffer encodePetsByAgeBinary()
+    {
+        return CompactBinaryCodec.encodePetsByAge(this.petsByAge);
+    }
+
+    @Benchmark
+    public MutableIntObjectMap<MutableList<Pet>> decodePetsByAgeJson() throws IOException
+    {
+        return this.petsByAgeReader.readValue(this.petsByAgeJson);
+    }
+
+    @Benchmark
+    public MutableIntObjectMap<MutableList<Pet>> decodePetsByAgeBinary()
+    {
+        return CompactBinaryCodec.decodePetsByAge(this.petsByAgeBinary.duplicate());
+    }
+}
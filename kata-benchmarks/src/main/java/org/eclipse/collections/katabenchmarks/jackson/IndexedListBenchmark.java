@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.jacksonkata.IndexedList;
+import org.eclipse.collections.jacksonkata.Pet;
+import org.eclipse.collections.jacksonkata.PetType;
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Weighs what the indexes of an {@link IndexedList} cost to maintain against what they save on lookups, for
+ * {@link #petCount} pets from a {@link JacksonPetGenerator}, with twenty ages and six types. The {@code build} methods add every pet to a plain
+ * {@link MutableList} or to an {@link IndexedList} with an age and a type index, which {@code buildIndexed} reads
+ * first so they are maintained on every add and {@code buildIndexedUnused} never reads, and the {@code petsByAge} and
+ * {@code petsByType} methods answer one lookup by scanning the plain list or by reading the index. Run with
+ * {@code -prof gc} to see the extra allocation of the indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexedListBenchmark
+{
+    @Param({"1000", "1000000"})
+    public int petCount;
+
+    private ImmutableList<Pet> pets;
+    private MutableList<Pet> plain;
+    private IndexedList<Pet> indexed;
+    private IndexedList.IntIndex<Pet> byAge;
+    private IndexedList.ObjectIndex<PetType, Pet> byType;
+
+    @Setup
+    public void setUp()
+    {
+        this.pets = new JacksonPetGenerator().pets(this.petCount).toList().toImmutable();
+        this.plain = this.buildPlain();
+        this.indexed = new IndexedList<>();
+        this.byAge = this.indexed.addIntIndex(Pet::getAge);
+        this.byType = this.indexed.addIndex(Pet::getType);
+        this.indexed.addAll(this.pets);
+    }
+
+    @Benchmark
+    public MutableList<Pet> buildPlain()
+    {
+        MutableList<Pet> result = Lists.mutable.empty();
+        this.pets.each(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public IndexedList<Pet> buildIndexed()
+    {
+        IndexedList<Pet> result = new IndexedList<>();
+        result.addIntIndex(Pet::getAge).asUnmodifiable();
+        result.addIndex(Pet::getType).asUnmodifiable();
+        this.pets.each(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public IndexedList<Pet> buildIndexedUnused()
+    {
+        IndexedList<Pet> result = new IndexedList<>();
+        result.addIntIndex(Pet::getAge);
+        result.addIndex(Pet::getType);
+        this.pets.each(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public MutableList<Pet> petsByAgeScan()
+    {
+        return this.plain.select(pet -> pet.getAge() == 7);
+    }
+
+    @Benchmark
+    public MutableList<Pet> petsByAgeIndexed()
+    {
+        return this.byAge.get(7);
+    }
+
+    @Benchmark
+    public MutableList<Pet> petsByTypeScan()
+    {
+        return this.plain.select(pet -> pet.getType() == PetType.TURTLE);
+    }
+
+    @Benchmark
+    public MutableList<Pet> petsByTypeIndexed()
+    {
+        return this.byType.get(PetType.TURTLE);
+    }
+}
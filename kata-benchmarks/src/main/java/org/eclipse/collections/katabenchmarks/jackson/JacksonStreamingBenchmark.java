@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.jacksonkata.ObjectMapperUtils;
+import org.eclipse.collections.jacksonkata.Person;
+import org.eclipse.collections.jacksonkata.Pet;
+import org.eclipse.collections.jacksonkata.StreamingCollectionsModule;
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default {@code EclipseCollectionsModule} mapper with one that also registers
+ * {@link StreamingCollectionsModule}, writing and reading a {@link Person} with {@link #petCount} pets and a
+ * {@code petsByAge} map on its own, both holding the same pets from a {@link JacksonPetGenerator}. Both sides use readers and writers created in the setup. Run with
+ * {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JacksonStreamingBenchmark
+{
+    private static final TypeReference<MutableIntObjectMap<MutableList<Pet>>> PETS_BY_AGE = new TypeReference<>() {};
+
+    @Param({"1000", "1000000"})
+    public int petCount;
+
+    private Person person;
+    private MutableIntObjectMap<MutableList<Pet>> petsByAge;
+    private byte[] personJson;
+    private byte[] petsByAgeJson;
+
+    private ObjectWriter defaultPersonWriter;
+    private ObjectWriter streamingPersonWriter;
+    private ObjectReader defaultPersonReader;
+    private ObjectReader streamingPersonReader;
+    private ObjectWriter defaultPetsByAgeWriter;
+    private ObjectWriter streamingPetsByAgeWriter;
+    private ObjectReader defaultPetsByAgeReader;
+    private ObjectReader streamingPetsByAgeReader;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        JacksonPetGenerator generator = new JacksonPetGenerator();
+        this.person = generator.person(this.petCount);
+        this.petsByAge = generator.petsByAge(this.petCount);
+
+        ObjectMapper standard = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport();
+        ObjectMapper streaming = ObjectMapperUtils.createObjectMapperWithStreamingSupport();
+        this.defaultPersonWriter = standard.writerFor(Person.class);
+        this.streamingPersonWriter = streaming.writerFor(Person.class);
+        this.defaultPersonReader = standard.readerFor(Person.class);
+        this.streamingPersonReader = streaming.readerFor(Person.class);
+        this.defaultPetsByAgeWriter = standard.writerFor(PETS_BY_AGE);
+        this.streamingPetsByAgeWriter = streaming.writerFor(PETS_BY_AGE);
+        this.defaultPetsByAgeReader = standard.readerFor(PETS_BY_AGE);
+        this.streamingPetsByAgeReader = streaming.readerFor(PETS_BY_AGE);
+
+        this.personJson = this.defaultPersonWriter.writeValueAsBytes(this.person);
+        this.petsByAgeJson = this.defaultPetsByAgeWriter.writeValueAsBytes(this.petsByAge);
+    }
+
+    @Benchmark
+    public byte[] writePersonDefault() throws IOException
+    {
+        return this.defaultPersonWriter.writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public byte[] writePersonStreaming() throws IOException
+    {
+        return this.streamingPersonWriter.writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public Person readPersonDefault() throws IOException
+    {
+        return this.defaultPersonReader.readValue(this.personJson);
+    }
+
+    @Benchmark
+    public Person readPersonStreaming() throws IOException
+    {
+        return this.streamingPersonReader.readValue(this.personJson);
+    }
+
+    @Benchmark
+    public byte[] writePetsByAgeDefault() throws IOException
+    {
+        return this.defaultPetsByAgeWriter.writeValueAsBytes(this.petsByAge);
+    }
+
+    @Benchmark
+    public byte[] writePetsByAgeStreaming() throws IOException
+    {
+        return this.streamingPetsByAgeWriter.writeValueAsBytes(this.petsByAge);
+    }
+
+    @Benchmark
+    public MutableIntObjectMap<MutableList<Pet>> readPetsByAgeDefault() throws IOException
+    {
+        return this.defaultPetsByAgeReader.readValue(this.petsByAgeJson);
+    }
+
+    @Benchmark
+    public MutableIntObjectMap<MutableList<Pet>> readPetsByAgeStreaming() throws IOException
+    {
+        return this.streamingPetsByAgeReader.readValue(this.petsByAgeJson);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.jacksonkata.ObjectMapperRegistry;
+import org.eclipse.collections.jacksonkata.ObjectMapperUtils;
+import org.eclipse.collections.jacksonkata.Person;
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the first call on a new mapper with the steady state, writing and reading a {@link Person} with
+ * {@link #petCount} pets from a {@link JacksonPetGenerator}. The {@code NewMapper} methods create a mapper with
+ * {@link ObjectMapperUtils#createObjectMapperWithEclipseCollectionsSupport()} for every call, so every call is a first
+ * call. The {@code SharedMapper} methods reuse one mapper but go through {@link ObjectMapper#writeValueAsBytes(Object)}
+ * and {@link ObjectMapper#readValue(byte[], Class)}, and the {@code Registry} methods use the cached writer and reader
+ * of {@link ObjectMapperRegistry#eclipseCollections()}. {@code createRegistry} is the one-off cost of a registry,
+ * including resolving the serializers and deserializers of the types it warms up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObjectMapperRegistryBenchmark
+{
+    @Param({"10", "1000"})
+    public int petCount;
+
+    private Person person;
+    private byte[] json;
+    private ObjectMapper sharedMapper;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        this.person = new JacksonPetGenerator().person(this.petCount);
+        this.sharedMapper = ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport();
+        this.json = this.sharedMapper.writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public byte[] writeNewMapper() throws IOException
+    {
+        return ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport().writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public byte[] writeSharedMapper() throws IOException
+    {
+        return this.sharedMapper.writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public byte[] writeRegistry() throws IOException
+    {
+        return ObjectMapperRegistry.eclipseCollections().writerFor(Person.class).writeValueAsBytes(this.person);
+    }
+
+    @Benchmark
+    public Person readNewMapper() throws IOException
+    {
+        return ObjectMapperUtils.createObjectMapperWithEclipseCollectionsSupport().readValue(this.json, Person.class);
+    }
+
+    @Benchmark
+    public Person readSharedMapper() throws IOException
+    {
+        return this.sharedMapper.readValue(this.json, Person.class);
+    }
+
+    @Benchmark
+    public Person readRegistry() throws IOException
+    {
+        return ObjectMapperRegistry.eclipseCollections().readerFor(Person.class).readValue(this.json);
+    }
+
+    @Benchmark
+    public ObjectMapperRegistry createRegistry()
+    {
+        return new ObjectMapperRegistry(this.sharedMapper);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.jacksonkata.CompactBinaryCodec;
+import org.eclipse.collections.jacksonkata.Person;
+import org.eclipse.collections.jacksonkata.Pet;
+import org.eclipse.collections.jacksonkata.PetType;
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading a {@link Person} with {@link #petCount} pets from a {@link JacksonPetGenerator}, decoded from a
+ * {@link CompactBinaryCodec} snapshot, now that the indexes of {@link Person} are only built when they are first read.
+ * {@code load} reads nothing back, {@code loadAndQueryAge} answers one age lookup, which builds the age index only,
+ * and {@code loadAndQueryAll} reads both indexes, which is what every load used to cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonLoadBenchmark
+{
+    @Param({"1000000", "10000000"})
+    public int petCount;
+
+    private ByteBuffer snapshot;
+
+    @Setup
+    public void setUp()
+    {
+        this.snapshot = CompactBinaryCodec.encode(new JacksonPetGenerator().person(this.petCount));
+    }
+
+    @Benchmark
+    public Person load()
+    {
+        return CompactBinaryCodec.decodePerson(this.snapshot.duplicate());
+    }
+
+    @Benchmark
+    public MutableList<Pet> loadAndQueryAge()
+    {
+        return this.load().getPetsByAge(7);
+    }
+
+    @Benchmark
+    public MutableList<Pet> loadAndQueryAll()
+    {
+        Person person = this.load();
+        person.getPetsByAge(7);
+        return person.getPetsByType(PetType.TURTLE);
+    }
+}
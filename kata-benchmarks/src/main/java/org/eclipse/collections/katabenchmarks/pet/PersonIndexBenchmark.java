@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.pet;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.katabenchmarks.data.PetGenerator;
+import org.eclipse.collections.petkata.Person;
+import org.eclipse.collections.petkata.Pet;
+import org.eclipse.collections.petkata.PetType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the pet kata's per person questions over {@link #people} people with one to four pets each. The {@code Scan}
+ * methods answer them from {@link Person#getPets()} the way {@link Person} used to, while the {@code Indexed} methods
+ * use the pet type counts that {@link Person#addPet(PetType, String, int)} maintains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonIndexBenchmark
+{
+    private static final int MAX_PETS_PER_PERSON = 4;
+
+    @Param({"1000000", "10000000"})
+    public int people;
+
+    private ImmutableList<Person> population;
+
+    @Setup
+    public void setUp()
+    {
+        this.population = new PetGenerator().people(this.people, MAX_PETS_PER_PERSON).toList().toImmutable();
+    }
+
+    @Benchmark
+    public int catOwnersScan()
+    {
+        return this.population.count(person -> person.getPets().containsBy(Pet::getType, PetType.CAT));
+    }
+
+    @Benchmark
+    public int catOwnersIndexed()
+    {
+        return this.population.count(person -> person.hasPet(PetType.CAT));
+    }
+
+    @Benchmark
+    public MutableBag<PetType> petTypesScan()
+    {
+        MutableBag<PetType> result = Bags.mutable.empty();
+        this.population.each(person -> person.getPets()
+                .countBy(Pet::getType)
+                .forEachWithOccurrences(result::addOccurrences));
+        return result;
+    }
+
+    @Benchmark
+    public MutableBag<PetType> petTypesIndexed()
+    {
+        MutableBag<PetType> result = Bags.mutable.empty();
+        this.population.each(person -> person.getPetTypes().forEachWithOccurrences(result::addOccurrences));
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.pet;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.katabenchmarks.data.PetGenerator;
+import org.eclipse.collections.petkata.Person;
+import org.eclipse.collections.petkata.Pet;
+import org.eclipse.collections.petkata.PetType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares eager, lazy and parallel Eclipse Collections with Java Streams for counting pets by type, over one person
+ * with {@link #petCount} pets built by {@link PetGenerator}. {@link Person#getPetTypes()} now reads a count kept by
+ * {@link Person#addPet(PetType, String, int)}; see {@link PersonIndexBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PetBenchmark
+{
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000", "1000000"})
+    public int petCount;
+
+    private Person person;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp()
+    {
+        this.person = new PetGenerator().personWithPets(this.petCount);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Bag<PetType> getPetTypesEcEager()
+    {
+        return this.person.getPets().countBy(Pet::getType);
+    }
+
+    @Benchmark
+    public Bag<PetType> getPetTypesEcLazy()
+    {
+        return this.person.getPets().asLazy().countBy(Pet::getType);
+    }
+
+    @Benchmark
+    public Bag<PetType> getPetTypesEcParallel()
+    {
+        return this.person.getPets().asParallel(this.executor, BATCH_SIZE).collect(Pet::getType).toBag();
+    }
+
+    @Benchmark
+    public Map<PetType, Long> getPetTypesJdkStream()
+    {
+        return this.person.getPets().stream()
+                .collect(Collectors.groupingBy(Pet::getType, Collectors.counting()));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.wordle;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Strings;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.string.immutable.CharAdapter;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.katabenchmarks.data.WordGenerator;
+import org.eclipse.collections.wordlekata.WordleEC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares eager, lazy and parallel Eclipse Collections with Java Streams for scoring a batch of guesses against
+ * hidden words, pairing the answers of a {@link WordGenerator} with its guesses taken from the end. The guesses are
+ * scored with {@link #guess(String, String)}, a straightforward {@link CharAdapter} and {@link MutableCharBag}
+ * implementation of the rules documented on {@link WordleEC#guess(String)}.
+ * {@link WordleGuessBenchmark} compares it with the allocation free {@link WordleEC#guess(String, char[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WordleBenchmark
+{
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"1000", "100000"})
+    public int guessCount;
+
+    private MutableList<Twin<String>> hiddenAndGuesses;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp()
+    {
+        WordGenerator words = new WordGenerator();
+        ImmutableList<String> answers = words.answers();
+        ImmutableList<String> guesses = words.guesses();
+        this.hiddenAndGuesses = Lists.mutable.empty();
+        for (int i = 0; i < this.guessCount; i++)
+        {
+            this.hiddenAndGuesses.add(Tuples.twin(
+                    answers.get(i % answers.size()),
+                    guesses.get(guesses.size() - 1 - i % guesses.size())));
+        }
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    public static String guess(String hidden, String guess)
+    {
+        CharAdapter hiddenChars = Strings.asChars(hidden);
+        CharAdapter guessChars = Strings.asChars(guess);
+        MutableCharBag remaining = CharBags.mutable.empty();
+        hiddenChars.forEachWithIndex((each, index) -> {
+            if (guessChars.get(index) != each)
+            {
+                remaining.add(each);
+            }
+        });
+        StringBuilder builder = new StringBuilder(guess.length());
+        guessChars.forEachWithIndex((each, index) -> {
+            if (hiddenChars.get(index) == each)
+            {
+                builder.append(Character.toUpperCase(each));
+            }
+            else
+            {
+                builder.append(remaining.remove(each) ? each : '.');
+            }
+        });
+        return builder.toString();
+    }
+
+    @Benchmark
+    public MutableList<String> guessEcEager()
+    {
+        return this.hiddenAndGuesses.collect(each -> guess(each.getOne(), each.getTwo()));
+    }
+
+    @Benchmark
+    public MutableList<String> guessEcLazy()
+    {
+        return this.hiddenAndGuesses.asLazy().collect(each -> guess(each.getOne(), each.getTwo())).toList();
+    }
+
+    @Benchmark
+    public MutableList<String> guessEcParallel()
+    {
+        return this.hiddenAndGuesses.asParallel(this.executor, BATCH_SIZE)
+                .collect(each -> guess(each.getOne(), each.getTwo()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> guessJdkStream()
+    {
+        return this.hiddenAndGuesses.stream()
+                .map(each -> guess(each.getOne(), each.getTwo()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.wordle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.katabenchmarks.data.WordGenerator;
+import org.eclipse.collections.wordlekata.WordleEC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of scoring a single guess with {@link WordleEC}, for answers and guesses from a
+ * {@link WordGenerator}. Run it with the GC profiler to see the bytes allocated per operation, which should be zero for
+ * {@link #guessIntoBuffer()}:
+ * <pre>
+ * java -jar kata-benchmarks/target/benchmarks.jar WordleGuessBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WordleGuessBenchmark
+{
+    private static final int WORD_COUNT = 1_024;
+
+    private final char[] buffer = new char[5];
+    private WordleEC[] hiddenWords;
+    private String[] guesses;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        WordGenerator words = new WordGenerator();
+        ImmutableList<String> answers = words.answers();
+        ImmutableList<String> guesses = words.guesses();
+        this.hiddenWords = new WordleEC[WORD_COUNT];
+        this.guesses = new String[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++)
+        {
+            this.hiddenWords[i] = new WordleEC(answers.get(i));
+            this.guesses[i] = guesses.get(guesses.size() - 1 - i);
+        }
+    }
+
+    private int next()
+    {
+        this.index = (this.index + 1) & (WORD_COUNT - 1);
+        return this.index;
+    }
+
+    @Benchmark
+    public String guessCharBag()
+    {
+        int next = this.next();
+        return WordleBenchmark.guess(this.hiddenWords[next].string(), this.guesses[next]);
+    }
+
+    @Benchmark
+    public String guessString()
+    {
+        int next = this.next();
+        return this.hiddenWords[next].guess(this.guesses[next]);
+    }
+
+    @Benchmark
+    public char[] guessIntoBuffer()
+    {
+        int next = this.next();
+        return this.hiddenWords[next].guess(this.guesses[next], this.buffer);
+    }
+}
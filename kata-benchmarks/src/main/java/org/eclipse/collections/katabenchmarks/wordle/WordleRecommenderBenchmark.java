@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.wordle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.katabenchmarks.data.WordGenerator;
+import org.eclipse.collections.wordlekata.WordleEC;
+import org.eclipse.collections.wordlekata.WordleRecommender;
+import org.eclipse.collections.wordlekata.WordleScoringEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Samples the latency of {@link WordleRecommender} on a dictionary the size of the real Wordle lists. The target is
+ * an answer within 50 ms on 8 cores, which applies to {@link #openingUncached()}, the worst case where every allowed
+ * guess is ranked against every answer. {@link #openingCached()} and {@link #secondGuess()} show the latency once the
+ * opening move and its partitions have been cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WordleRecommenderBenchmark
+{
+    @Param({"1", "8"})
+    public int threads;
+
+    private WordleScoringEngine engine;
+    private ExecutorService executor;
+    private WordleRecommender recommender;
+    private ImmutableList<String> answers;
+    private String opening;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        WordGenerator generator = new WordGenerator();
+        this.engine = WordleScoringEngine.compute(generator.guesses(), generator.answers());
+        this.executor = Executors.newFixedThreadPool(this.threads);
+        this.recommender = new WordleRecommender(this.engine, this.executor, WordleRecommender.DEFAULT_BATCH_SIZE);
+        this.answers = this.engine.getAnswers();
+        this.opening = this.recommender.newSession().recommend();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public String openingUncached()
+    {
+        return new WordleRecommender(this.engine, this.executor, WordleRecommender.DEFAULT_BATCH_SIZE)
+                .newSession()
+                .recommend();
+    }
+
+    @Benchmark
+    public String openingCached()
+    {
+        return this.recommender.newSession().recommend();
+    }
+
+    @Benchmark
+    public String secondGuess()
+    {
+        this.index = (this.index + 1) % this.answers.size();
+        WordleRecommender.Session session = this.recommender.newSession();
+        session.update(this.opening, new WordleEC(this.answers.get(this.index)).guess(this.opening));
+        return session.recommend();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.wordle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.katabenchmarks.data.WordGenerator;
+import org.eclipse.collections.wordlekata.WordleEC;
+import org.eclipse.collections.wordlekata.WordleScoringEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building the full guess by answer feedback matrix with {@link WordleScoringEngine} on a growing number of
+ * fork-join threads, scoring the same pairs one at a time with {@link WordleEC#guess(String, char[])}, and mapping a
+ * matrix saved earlier. The dictionary has the size of the real Wordle lists and is built by {@link WordGenerator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WordleScoringEngineBenchmark
+{
+    @Param({"1", "4", "16"})
+    public int parallelism;
+
+    private ImmutableList<String> guesses;
+    private ImmutableList<String> answers;
+    private WordleEC[] hiddenWords;
+    private ForkJoinPool pool;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        WordGenerator generator = new WordGenerator();
+        this.guesses = generator.guesses();
+        this.answers = generator.answers();
+        this.hiddenWords = this.answers.collect(WordleEC::new).toArray(new WordleEC[0]);
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.file = Files.createTempFile("wordle-feedback", ".bin");
+        WordleScoringEngine.compute(this.guesses, this.answers, this.pool).save(this.file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        this.pool.shutdownNow();
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public WordleScoringEngine compute()
+    {
+        return WordleScoringEngine.compute(this.guesses, this.answers, this.pool);
+    }
+
+    @Benchmark
+    public int scoreOneAtATime()
+    {
+        char[] buffer = new char[WordleScoringEngine.WORD_LENGTH];
+        int exact = 0;
+        for (String guess : this.guesses)
+        {
+            for (WordleEC hidden : this.hiddenWords)
+            {
+                exact += Character.isUpperCase(hidden.guess(guess, buffer)[0]) ? 1 : 0;
+            }
+        }
+        return exact;
+    }
+
+    @Benchmark
+    public int load() throws IOException
+    {
+        WordleScoringEngine engine = WordleScoringEngine.load(this.file, this.guesses, this.answers);
+        return engine.feedback(this.guesses.size() - 1, this.answers.size() - 1);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.company;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CompanyBenchmarkTest
+{
+    private final CompanyBenchmark benchmark = new CompanyBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.customerCount = 1_000;
+        this.benchmark.ordersPerCustomer = 3;
+        this.benchmark.lineItemsPerOrder = 5;
+        this.benchmark.setUp();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.benchmark.tearDown();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void getOrders()
+    {
+        MutableList<Order> expected = this.benchmark.getOrdersEcEager();
+        Verify.assertSize(3_000, expected);
+        Assertions.assertEquals(expected, this.benchmark.getOrdersEcLazy());
+        Assertions.assertEquals(expected, this.benchmark.getOrdersEcParallel());
+        Assertions.assertEquals(expected, this.benchmark.getOrdersJdkStream());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void totalOrderValue()
+    {
+        double expected = this.benchmark.totalOrderValueEcEager();
+        Assertions.assertEquals(expected, this.benchmark.totalOrderValueEcLazy(), 0.001);
+        Assertions.assertEquals(expected, this.benchmark.totalOrderValueEcParallel(), 0.001);
+        Assertions.assertEquals(expected, this.benchmark.totalOrderValueJdkStream(), 0.001);
+    }
+}
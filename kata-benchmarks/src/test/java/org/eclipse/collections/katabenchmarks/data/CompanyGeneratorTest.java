@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CompanyGeneratorTest
+{
+    private final CompanyGenerator generator = new CompanyGenerator();
+
+    @Test
+    @Tag("SOLUTION")
+    public void company()
+    {
+        Company company = this.generator.company(1_000, 3, 5);
+
+        Verify.assertSize(1_000, company.getCustomers());
+        Verify.assertSize(3_000, company.getOrders());
+        Verify.assertSize(334, company.getSuppliers());
+        Assertions.assertEquals(
+                company.getCustomers().sumOfDouble(Customer::getTotalOrderValue),
+                company.getTotalRevenue(),
+                0.001);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void deterministic()
+    {
+        MutableList<String> first = this.generator.customers(100, 2, 4)
+                .collect(customer -> customer.getCity() + customer.getTotalOrderValue())
+                .toList();
+        MutableList<String> second = new CompanyGenerator(CompanyGenerator.DEFAULT_SEED).customers(100, 2, 4)
+                .collect(customer -> customer.getCity() + customer.getTotalOrderValue())
+                .toList();
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(
+                first.get(42),
+                this.generator.customer(42, 2, 4).getCity() + this.generator.customer(42, 2, 4).getTotalOrderValue());
+        Assertions.assertNotEquals(
+                first,
+                new CompanyGenerator(7L).customers(100, 2, 4)
+                        .collect(customer -> customer.getCity() + customer.getTotalOrderValue())
+                        .toList());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void skewed()
+    {
+        Bag<String> cities = this.generator.customers(10_000, 0, 0).countBy(Customer::getCity);
+        Bag<String> items = this.generator.customers(1_000, 1, 10)
+                .flatCollect(Customer::getOrders)
+                .flatCollect(Order::getLineItems)
+                .countBy(LineItem::getName);
+
+        Assertions.assertEquals("London", cities.topOccurrences(1).getOnly().getOne());
+        Assertions.assertTrue(cities.occurrencesOf("London") > 5 * cities.occurrencesOf("York"));
+        Assertions.assertEquals(this.generator.getItemName(0), items.topOccurrences(1).getOnly().getOne());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void empty()
+    {
+        Verify.assertEmpty(this.generator.customers(0, 1, 1).toList());
+        Verify.assertEmpty(this.generator.suppliers(0).toList());
+    }
+}
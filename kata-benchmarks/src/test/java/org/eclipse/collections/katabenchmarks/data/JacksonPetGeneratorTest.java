@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.jacksonkata.Pet;
+import org.eclipse.collections.jacksonkata.PetType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class JacksonPetGeneratorTest
+{
+    private final JacksonPetGenerator generator = new JacksonPetGenerator();
+
+    @Test
+    @Tag("SOLUTION")
+    public void pets()
+    {
+        MutableList<Pet> pets = this.generator.pets(10_000).toList();
+        Bag<PetType> petTypes = pets.countBy(Pet::getType);
+
+        Verify.assertSize(10_000, pets);
+        Assertions.assertEquals(PetType.CAT, petTypes.topOccurrences(1).getOnly().getOne());
+        Assertions.assertTrue(pets.allSatisfy(pet -> pet.getAge() >= 1 && pet.getAge() <= JacksonPetGenerator.MAX_AGE));
+        Assertions.assertTrue(pets.collect(Pet::getName).toSet().size() <= JacksonPetGenerator.NAMES);
+        Assertions.assertEquals(pets, this.generator.pets(10_000).toList());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void personAndPetsByAgeHoldTheSamePets()
+    {
+        MutableList<Pet> pets = this.generator.pets(1_000).toList();
+
+        Assertions.assertEquals(pets, this.generator.person(1_000).getImmutablePets());
+        Assertions.assertEquals(pets.groupBy(Pet::getAge).get(7), this.generator.petsByAge(1_000).get(7));
+        Assertions.assertEquals(1_000, this.generator.petsByAge(1_000).sumOfInt(MutableList::size));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.data;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.petkata.Person;
+import org.eclipse.collections.petkata.Pet;
+import org.eclipse.collections.petkata.PetType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PetGeneratorTest
+{
+    private final PetGenerator generator = new PetGenerator();
+
+    @Test
+    @Tag("SOLUTION")
+    public void people()
+    {
+        MutableList<Person> people = this.generator.people(1_000, 4).toList();
+
+        Verify.assertSize(1_000, people);
+        Assertions.assertTrue(people.allSatisfy(person -> person.getPets().size() >= 1 && person.getPets().size() <= 4));
+        Assertions.assertTrue(people.count(person -> person.getPets().size() == 1) > people.size() / 3);
+        Assertions.assertEquals(
+                people.collect(Person::getFullName),
+                this.generator.people(1_000, 4).collect(Person::getFullName).toList());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void pets()
+    {
+        Bag<PetType> petTypes = this.generator.pets(10_000).countBy(Pet::getType);
+
+        Assertions.assertEquals(10_000, petTypes.size());
+        Assertions.assertEquals(PetType.CAT, petTypes.topOccurrences(1).getOnly().getOne());
+        Assertions.assertTrue(petTypes.occurrencesOf(PetType.CAT) > petTypes.occurrencesOf(PetType.SNAKE));
+        Assertions.assertTrue(this.generator.pets(10_000).allSatisfy(pet -> pet.getAge() >= 1 && pet.getAge() <= PetGenerator.MAX_AGE));
+        Assertions.assertEquals(petTypes, this.generator.personWithPets(10_000).getPetTypes());
+    }
+}
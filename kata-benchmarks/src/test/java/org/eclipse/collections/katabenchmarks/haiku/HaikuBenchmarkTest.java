@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.haiku;
+
+import org.eclipse.collections.api.bag.primitive.CharBag;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.haikukata.TextProcessorEC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class HaikuBenchmarkTest
+{
+    private final HaikuBenchmark benchmark = new HaikuBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.copies = 1;
+        this.benchmark.setUp();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.benchmark.tearDown();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void duplicatesAndUnique()
+    {
+        Triple<CharBag, CharBag, CharSet> expected = new TextProcessorEC().duplicatesAndUnique();
+        Assertions.assertEquals(expected, this.benchmark.duplicatesAndUniqueEcEager());
+        Assertions.assertEquals(expected, this.benchmark.duplicatesAndUniqueEcLazy());
+        Assertions.assertEquals(expected, this.benchmark.duplicatesAndUniqueEcParallel());
+        Assertions.assertEquals(
+                expected.getOne().size(),
+                this.benchmark.duplicatesAndUniqueJdkStream().chars().values().stream().mapToLong(Long::longValue).sum());
+    }
+}
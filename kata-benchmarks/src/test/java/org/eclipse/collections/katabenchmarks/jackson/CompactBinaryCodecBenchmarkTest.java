@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CompactBinaryCodecBenchmarkTest
+{
+    private final CompactBinaryCodecBenchmark benchmark = new CompactBinaryCodecBenchmark();
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        this.benchmark.petCount = 1_000;
+        this.benchmark.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void binaryMatchesJson() throws IOException
+    {
+        Assertions.assertEquals(
+                this.benchmark.decodePersonJson().getImmutablePets(),
+                this.benchmark.decodePersonBinary().getImmutablePets());
+        Assertions.assertEquals(this.benchmark.decodePetsByAgeJson(), this.benchmark.decodePetsByAgeBinary());
+        Assertions.assertEquals(this.benchmark.getBinaryPersonSize(), this.benchmark.encodePersonBinary().remaining());
+        Assertions.assertTrue(this.benchmark.getBinaryPersonSize() * 3 < this.benchmark.getJsonPersonSize());
+        Assertions.assertTrue(this.benchmark.getBinaryPetsByAgeSize() * 4 < this.benchmark.getJsonPetsByAgeSize());
+    }
+}
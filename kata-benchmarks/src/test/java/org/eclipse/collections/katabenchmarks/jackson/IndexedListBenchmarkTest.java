@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class IndexedListBenchmarkTest
+{
+    private final IndexedListBenchmark benchmark = new IndexedListBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.petCount = 1_000;
+        this.benchmark.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexesMatchScans()
+    {
+        Assertions.assertEquals(
+                new JacksonPetGenerator().pets(1_000).count(pet -> pet.getAge() == 7),
+                this.benchmark.petsByAgeScan().size());
+        Assertions.assertEquals(this.benchmark.petsByAgeScan(), this.benchmark.petsByAgeIndexed());
+        Assertions.assertEquals(this.benchmark.petsByTypeScan(), this.benchmark.petsByTypeIndexed());
+        Assertions.assertEquals(this.benchmark.buildPlain(), this.benchmark.buildIndexed().asUnmodifiable());
+        Assertions.assertEquals(this.benchmark.buildPlain(), this.benchmark.buildIndexedUnused().asUnmodifiable());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class JacksonStreamingBenchmarkTest
+{
+    private final JacksonStreamingBenchmark benchmark = new JacksonStreamingBenchmark();
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        this.benchmark.petCount = 1_000;
+        this.benchmark.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void streamingMatchesDefault() throws IOException
+    {
+        Assertions.assertArrayEquals(this.benchmark.writePersonDefault(), this.benchmark.writePersonStreaming());
+        Assertions.assertEquals(
+                this.benchmark.readPersonDefault().getImmutablePets(),
+                this.benchmark.readPersonStreaming().getImmutablePets());
+        Assertions.assertEquals(this.benchmark.readPetsByAgeDefault(), this.benchmark.readPetsByAgeStreaming());
+        Assertions.assertEquals(1_000, this.benchmark.readPetsByAgeStreaming().sumOfInt(pets -> pets.size()));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ObjectMapperRegistryBenchmarkTest
+{
+    private final ObjectMapperRegistryBenchmark benchmark = new ObjectMapperRegistryBenchmark();
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        this.benchmark.petCount = 10;
+        this.benchmark.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void everyPathGivesTheSameJson() throws IOException
+    {
+        Assertions.assertArrayEquals(this.benchmark.writeNewMapper(), this.benchmark.writeRegistry());
+        Assertions.assertArrayEquals(this.benchmark.writeSharedMapper(), this.benchmark.writeRegistry());
+        Assertions.assertEquals(
+                this.benchmark.readNewMapper().getImmutablePets(),
+                this.benchmark.readRegistry().getImmutablePets());
+        Assertions.assertEquals(
+                this.benchmark.readSharedMapper().getImmutablePets(),
+                this.benchmark.readRegistry().getImmutablePets());
+        Assertions.assertNotNull(this.benchmark.createRegistry());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.jackson;
+
+import org.eclipse.collections.jacksonkata.PetType;
+import org.eclipse.collections.katabenchmarks.data.JacksonPetGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PersonLoadBenchmarkTest
+{
+    private final PersonLoadBenchmark benchmark = new PersonLoadBenchmark();
+    private final JacksonPetGenerator generator = new JacksonPetGenerator();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.petCount = 1_200;
+        this.benchmark.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void queriesSeeEveryPet()
+    {
+        Assertions.assertEquals(1_200, this.benchmark.load().getNumberOfPets());
+        Assertions.assertEquals(
+                this.generator.pets(1_200).count(pet -> pet.getAge() == 7),
+                this.benchmark.loadAndQueryAge().size());
+        Assertions.assertEquals(
+                this.generator.pets(1_200).count(pet -> pet.getType() == PetType.TURTLE),
+                this.benchmark.loadAndQueryAll().size());
+        Assertions.assertTrue(this.benchmark.loadAndQueryAll().allSatisfy(pet -> pet.getType() == PetType.TURTLE));
+    }
+}
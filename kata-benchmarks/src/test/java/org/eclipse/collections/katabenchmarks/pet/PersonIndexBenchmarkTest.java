@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.pet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PersonIndexBenchmarkTest
+{
+    private final PersonIndexBenchmark benchmark = new PersonIndexBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.people = 10_000;
+        this.benchmark.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void indexesMatchScans()
+    {
+        Assertions.assertEquals(this.benchmark.catOwnersScan(), this.benchmark.catOwnersIndexed());
+        Assertions.assertEquals(this.benchmark.petTypesScan(), this.benchmark.petTypesIndexed());
+        Assertions.assertTrue(this.benchmark.petTypesIndexed().size() >= 10_000);
+    }
+}
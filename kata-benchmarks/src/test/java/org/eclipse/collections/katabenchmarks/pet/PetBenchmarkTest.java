@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.pet;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.petkata.PetType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PetBenchmarkTest
+{
+    private final PetBenchmark benchmark = new PetBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.petCount = 10_000;
+        this.benchmark.setUp();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.benchmark.tearDown();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void getPetTypes()
+    {
+        Bag<PetType> expected = this.benchmark.getPetTypesEcEager();
+        Assertions.assertEquals(10_000, expected.size());
+        Assertions.assertEquals(expected, this.benchmark.getPetTypesEcLazy());
+        Assertions.assertEquals(expected, this.benchmark.getPetTypesEcParallel());
+        Assertions.assertEquals(
+                expected.toMapOfItemToCount().collectValues((type, count) -> Long.valueOf(count)),
+                this.benchmark.getPetTypesJdkStream());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.wordle;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class WordleBenchmarkTest
+{
+    private final WordleBenchmark benchmark = new WordleBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.guessCount = 1_000;
+        this.benchmark.setUp();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.benchmark.tearDown();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void guess()
+    {
+        Assertions.assertEquals("A..a.", WordleBenchmark.guess("aabbb", "accaa"));
+        Assertions.assertEquals("..A..", WordleBenchmark.guess("bbabb", "aaaaa"));
+        Assertions.assertEquals("BRAVO", WordleBenchmark.guess("bravo", "bravo"));
+
+        MutableList<String> expected = this.benchmark.guessEcEager();
+        Assertions.assertEquals(expected, this.benchmark.guessEcLazy());
+        Assertions.assertEquals(expected, this.benchmark.guessEcParallel());
+        Assertions.assertEquals(expected, this.benchmark.guessJdkStream());
+    }
+}
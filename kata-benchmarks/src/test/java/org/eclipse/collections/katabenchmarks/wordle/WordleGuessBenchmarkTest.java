@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks.wordle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class WordleGuessBenchmarkTest
+{
+    private final WordleGuessBenchmark benchmark = new WordleGuessBenchmark();
+    private final WordleGuessBenchmark other = new WordleGuessBenchmark();
+    private final WordleGuessBenchmark buffered = new WordleGuessBenchmark();
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.benchmark.setUp();
+        this.other.setUp();
+        this.buffered.setUp();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void guess()
+    {
+        for (int i = 0; i < 2_048; i++)
+        {
+            String expected = this.benchmark.guessCharBag();
+            Assertions.assertEquals(expected, this.other.guessString());
+            Assertions.assertEquals(expected, new String(this.buffered.guessIntoBuffer()));
+        }
+    }
+}
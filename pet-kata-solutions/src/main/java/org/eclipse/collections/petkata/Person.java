@@ -12,15 +12,27 @@ package org.eclipse.collections.petkata;
 
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Bags;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 
+/**
+ * A person and their pets. Besides the list of pets, {@link #addPet(PetType, String, int)} keeps a count of the pets of
+ * each {@link PetType}, indexed by ordinal, so {@link #hasPet(PetType)} is a single array read and
+ * {@link #getPetTypes()} and {@link #getPetEmojis()} only visit the distinct types. The list is only exposed through
+ * one unmodifiable view, created with the person, so the counts cannot go stale.
+ */
 public class Person
 {
+    private static final PetType[] PET_TYPES = PetType.values();
+
     private final String firstName;
     private final String lastName;
     private final MutableList<Pet> pets = Lists.mutable.empty();
+    private final MutableList<Pet> unmodifiablePets = this.pets.asUnmodifiable();
+    private final int[] petTypeCounts = new int[PET_TYPES.length];
 
     public Person(String firstName, String lastName)
     {
@@ -50,7 +62,7 @@ public class Person
 
     public boolean hasPet(PetType petType)
     {
-        return this.pets.containsBy(Pet::getType, petType);
+        return petType != null && this.petTypeCounts[petType.ordinal()] > 0;
     }
 
     public boolean hasPet(String petEmoji)
@@ -60,17 +72,30 @@ public class Person
 
     public MutableList<Pet> getPets()
     {
-        return this.pets;
+        return this.unmodifiablePets;
     }
 
     public Bag<PetType> getPetTypes()
     {
-        return this.pets.countBy(Pet::getType);
+        return this.countPetTypes(petType -> petType);
     }
 
     public Bag<String> getPetEmojis()
     {
-        return this.getPetTypes().collect(Object::toString, Bags.mutable.empty());
+        return this.countPetTypes(Object::toString);
+    }
+
+    private <V> MutableBag<V> countPetTypes(Function<PetType, V> function)
+    {
+        MutableBag<V> result = Bags.mutable.empty();
+        for (int i = 0; i < this.petTypeCounts.length; i++)
+        {
+            if (this.petTypeCounts[i] > 0)
+            {
+                result.addOccurrences(function.valueOf(PET_TYPES[i]), this.petTypeCounts[i]);
+            }
+        }
+        return result;
     }
 
     public IntIterable getPetAges()
@@ -81,6 +106,7 @@ public class Person
     public Person addPet(PetType petType, String name, int age)
     {
         this.pets.add(new Pet(petType, name, age));
+        this.petTypeCounts[petType.ordinal()]++;
         return this;
     }
 
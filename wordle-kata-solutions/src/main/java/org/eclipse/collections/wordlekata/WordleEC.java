@@ -10,23 +10,16 @@
 
 package org.eclipse.collections.wordlekata;
 
-import org.eclipse.collections.api.bag.primitive.MutableCharBag;
-import org.eclipse.collections.impl.factory.Strings;
-import org.eclipse.collections.impl.factory.primitive.CharBags;
-import org.eclipse.collections.impl.string.immutable.CharAdapter;
-
 public record WordleEC(String string)
 {
+    private static final ThreadLocal<int[]> LETTER_COUNTS = ThreadLocal.withInitial(() -> new int[26]);
+
     public WordleEC(String string)
     {
         this.string = string.toLowerCase();
     }
 
     /**
-     * TODO - Implement the guess method using Eclipse Collections so tests in WordleECTest pass.
-     * <p/>
-     * Hint: Look at Strings.asChars(), CharAdapter, CharBags, MutableCharBag
-     * <p/>
      * Rules:
      * <p/>
      * <p><ul>
@@ -42,7 +35,69 @@ public record WordleEC(String string)
      */
     public String guess(String guess)
     {
-        // TODO - Replace null with the code needed to satisfy the rules above.
-        return null;
+        return new String(this.guess(guess, new char[guess.length()]));
+    }
+
+    /**
+     * Scores the guess like {@link #guess(String)}, but writes the result into {@code output} and returns it. The
+     * letters of the hidden word that are not matched in place are counted in a 26 slot histogram that is reused by
+     * every call on the same thread, so scoring a guess into a reused buffer allocates nothing. The guess may be in
+     * either case, but both words must be made of the letters {@code a} to {@code z}, otherwise an
+     * {@link IllegalArgumentException} is thrown.
+     */
+    public char[] guess(String guess, char[] output)
+    {
+        int length = this.string.length();
+        if (guess.length() != length || output.length < length)
+        {
+            throw new IllegalArgumentException(
+                    "Guess '" + guess + "' must have " + length + " letters and fit in a buffer of " + output.length);
+        }
+        int[] counts = LETTER_COUNTS.get();
+        for (int i = 0; i < length; i++)
+        {
+            counts[letterIndex(this.string, i)] = 0;
+            counts[letterIndex(guess, i)] = 0;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            int hidden = this.string.charAt(i) - 'a';
+            if (letterIndex(guess, i) != hidden)
+            {
+                counts[hidden]++;
+            }
+        }
+        for (int i = 0; i < length; i++)
+        {
+            int each = letterIndex(guess, i);
+            if (this.string.charAt(i) - 'a' == each)
+            {
+                output[i] = (char) ('A' + each);
+            }
+            else if (counts[each] > 0)
+            {
+                counts[each]--;
+                output[i] = (char) ('a' + each);
+            }
+            else
+            {
+                output[i] = '.';
+            }
+        }
+        return output;
+    }
+
+    private static int letterIndex(String word, int index)
+    {
+        char letter = word.charAt(index);
+        if (letter >= 'a' && letter <= 'z')
+        {
+            return letter - 'a';
+        }
+        if (letter >= 'A' && letter <= 'Z')
+        {
+            return letter - 'A';
+        }
+        throw new IllegalArgumentException("'" + word + "' must only contain the letters a to z");
     }
 }
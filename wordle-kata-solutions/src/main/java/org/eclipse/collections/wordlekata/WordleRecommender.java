@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.wordlekata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.primitive.ImmutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+
+/**
+ * Recommends the next Wordle guess by expected information gain.
+ * <p/>
+ * A {@link Session} keeps the ids of the answers still consistent with the feedback so far in an {@link IntHashSet}.
+ * Every allowed guess is scored against those answers with the feedback matrix of a {@link WordleScoringEngine},
+ * which follows the rules of {@link WordleEC#guess(String)}. The guess whose feedback splits the answers into the
+ * partition with the highest entropy is recommended, preferring guesses that could still be the answer on ties.
+ * Guesses are evaluated in parallel through {@link MutableList#asParallel(ExecutorService, int)}.
+ * <p/>
+ * Every game starts with the full set of answers, so the opening recommendation and the partitions of the answers by
+ * the feedback to each opening guess are computed once and shared by all sessions.
+ */
+public class WordleRecommender
+{
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final int FEEDBACK_CODES = WordleScoringEngine.ALL_EXACT + 1;
+
+    private final WordleScoringEngine engine;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final MutableList<Integer> guessIds;
+    private final int[] answerIdOfGuess;
+    private final ImmutableIntSet allAnswers;
+    private final ConcurrentMutableMap<Integer, ImmutableIntObjectMap<ImmutableIntSet>> openingPartitions =
+            ConcurrentHashMap.newMap();
+    private volatile String openingGuess;
+
+    public WordleRecommender(WordleScoringEngine engine)
+    {
+        this(engine, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public WordleRecommender(WordleScoringEngine engine, ExecutorService executor, int batchSize)
+    {
+        this.engine = engine;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        ImmutableList<String> guesses = engine.getGuesses();
+        this.guessIds = Interval.zeroTo(guesses.size() - 1).toList();
+        this.answerIdOfGuess = guesses.collectInt(engine::answerIndexOf).toArray();
+        this.allAnswers = IntInterval.zeroTo(engine.getAnswers().size() - 1).toSet().toImmutable();
+    }
+
+    public Session newSession()
+    {
+        return new Session();
+    }
+
+    /**
+     * Returns the guess with the highest expected information gain against the given answer ids.
+     */
+    public String recommend(IntSet remaining)
+    {
+        if (remaining.isEmpty())
+        {
+            throw new IllegalStateException("No answers are consistent with the feedback so far");
+        }
+        if (remaining.size() <= 2)
+        {
+            return this.engine.getAnswers().get(remaining.min());
+        }
+        if (remaining.size() == this.allAnswers.size())
+        {
+            return this.openingGuess();
+        }
+        return this.engine.getGuesses().get(this.bestGuess(remaining.toArray(), remaining));
+    }
+
+    /**
+     * Returns the expected information gain in bits of playing the guess when the given answer ids remain. The guess
+     * must be one of the engine's guesses.
+     */
+    public double entropy(String guess, IntSet remaining)
+    {
+        int guessId = this.engine.guessIndexOf(guess);
+        if (guessId < 0)
+        {
+            throw new IllegalArgumentException("Unknown guess: " + guess);
+        }
+        return entropy(this.engine, guessId, remaining.toArray(), new int[FEEDBACK_CODES]);
+    }
+
+    private String openingGuess()
+    {
+        String result = this.openingGuess;
+        if (result == null)
+        {
+            result = this.engine.getGuesses().get(this.bestGuess(this.allAnswers.toArray(), this.allAnswers));
+            this.openingGuess = result;
+        }
+        return result;
+    }
+
+    private int bestGuess(int[] candidates, IntSet remaining)
+    {
+        double[] entropies = new double[this.guessIds.size()];
+        this.guessIds.asParallel(this.executor, this.batchSize).forEach(
+                guess -> entropies[guess] = entropy(this.engine, guess, candidates, new int[FEEDBACK_CODES]));
+        int best = 0;
+        for (int guess = 1; guess < entropies.length; guess++)
+        {
+            if (entropies[guess] > entropies[best]
+                    || entropies[guess] == entropies[best] && !this.couldBeAnswer(best, remaining) && this.couldBeAnswer(guess, remaining))
+            {
+                best = guess;
+            }
+        }
+        return best;
+    }
+
+    private boolean couldBeAnswer(int guess, IntSet remaining)
+    {
+        return remaining.contains(this.answerIdOfGuess[guess]);
+    }
+
+    private static double entropy(WordleScoringEngine engine, int guess, int[] candidates, int[] counts)
+    {
+        for (int candidate : candidates)
+        {
+            counts[engine.feedback(guess, candidate)]++;
+        }
+        double sum = 0.0;
+        for (int count : counts)
+        {
+            if (count > 0)
+            {
+                sum += count * Math.log(count);
+            }
+        }
+        return (Math.log(candidates.length) - sum / candidates.length) / Math.log(2.0);
+    }
+
+    private ImmutableIntObjectMap<ImmutableIntSet> openingPartition(int guess)
+    {
+        return this.openingPartitions.getIfAbsentPut(guess, () -> {
+            MutableIntObjectMap<MutableIntSet> partition = IntObjectMaps.mutable.empty();
+            this.allAnswers.forEach(answer -> partition
+                    .getIfAbsentPut(this.engine.feedback(guess, answer), IntSets.mutable::empty)
+                    .add(answer));
+            MutableIntObjectMap<ImmutableIntSet> result = IntObjectMaps.mutable.empty();
+            partition.forEachKeyValue((code, answers) -> result.put(code, answers.toImmutable()));
+            return result.toImmutable();
+        });
+    }
+
+    /**
+     * Converts feedback in the format returned by {@link WordleEC#guess(String)} to a base-3 feedback code.
+     */
+    public static int feedbackCode(String feedback)
+    {
+        int code = 0;
+        for (int i = feedback.length() - 1; i >= 0; i--)
+        {
+            char each = feedback.charAt(i);
+            code = code * 3 + (each == '.' ? WordleScoringEngine.MISS
+                    : Character.isUpperCase(each) ? WordleScoringEngine.EXACT : WordleScoringEngine.PRESENT);
+        }
+        return code;
+    }
+
+    /**
+     * The state of one game. Sessions are not thread-safe, but any number of them can share a recommender.
+     */
+    public final class Session
+    {
+        private MutableIntSet remaining;
+        private boolean opening = true;
+
+        private Session()
+        {
+            this.remaining = new IntHashSet(WordleRecommender.this.allAnswers);
+        }
+
+        public String recommend()
+        {
+            return WordleRecommender.this.recommend(this.remaining);
+        }
+
+        /**
+         * Removes the answers that would not have given this feedback to the guess.
+         */
+        public void update(String guess, String feedback)
+        {
+            WordleScoringEngine engine = WordleRecommender.this.engine;
+            int guessId = engine.guessIndexOf(guess);
+            if (guessId < 0)
+            {
+                throw new IllegalArgumentException("Unknown guess: " + guess);
+            }
+            int code = feedbackCode(feedback);
+            if (this.opening)
+            {
+                ImmutableIntSet answers = WordleRecommender.this.openingPartition(guessId).get(code);
+                this.remaining = answers == null ? new IntHashSet() : new IntHashSet(answers);
+                this.opening = false;
+            }
+            else
+            {
+                this.remaining.removeIf(answer -> engine.feedback(guessId, answer) != code);
+            }
+        }
+
+        public IntSet getRemaining()
+        {
+            return this.remaining.asUnmodifiable();
+        }
+
+        public ImmutableList<String> getRemainingWords()
+        {
+            ImmutableList<String> answers = WordleRecommender.this.engine.getAnswers();
+            return this.remaining.toSortedList().collect(answers::get).toImmutable();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.wordlekata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.map.primitive.ObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+/**
+ * Holds the feedback for every guess scored against every answer in a dictionary.
+ * <p/>
+ * Words are packed into an int with five bits per letter. The feedback for a guess is a base-3 code with one digit
+ * per letter, {@link #MISS} for ".", {@link #PRESENT} for a lowercase letter and {@link #EXACT} for an uppercase
+ * letter in {@link WordleEC#guess(String)}, with the first letter as the least significant digit. The 243 possible
+ * codes fit in a byte, so the whole guess by answer matrix is one byte per pair, stored row by row for each guess.
+ * The matrix is filled in parallel on a {@link ForkJoinPool} and can be saved to and loaded from a memory-mapped file.
+ */
+public final class WordleScoringEngine
+{
+    public static final int WORD_LENGTH = 5;
+    public static final int MISS = 0;
+    public static final int PRESENT = 1;
+    public static final int EXACT = 2;
+    public static final int ALL_EXACT = 242;
+
+    private static final int MAGIC = 0x574F5244;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int ROWS_PER_TASK = 64;
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81};
+
+    private final ImmutableList<String> guesses;
+    private final ImmutableList<String> answers;
+    private final ImmutableIntList packedGuesses;
+    private final ImmutableIntList packedAnswers;
+    private final ObjectIntMap<String> guessIndex;
+    private final ObjectIntMap<String> answerIndex;
+    private final ByteBuffer matrix;
+
+    private WordleScoringEngine(ImmutableList<String> guesses, ImmutableList<String> answers, ByteBuffer matrix)
+    {
+        this.guesses = guesses;
+        this.answers = answers;
+        this.packedGuesses = guesses.collectInt(WordleScoringEngine::pack);
+        this.packedAnswers = answers.collectInt(WordleScoringEngine::pack);
+        this.guessIndex = indexOf(guesses);
+        this.answerIndex = indexOf(answers);
+        this.matrix = matrix;
+    }
+
+    /**
+     * Scores every guess against every answer on the common {@link ForkJoinPool}.
+     */
+    public static WordleScoringEngine compute(ImmutableList<String> guesses, ImmutableList<String> answers)
+    {
+        return compute(guesses, answers, ForkJoinPool.commonPool());
+    }
+
+    public static WordleScoringEngine compute(
+            ImmutableList<String> guesses,
+            ImmutableList<String> answers,
+            ForkJoinPool pool)
+    {
+        int[] packedGuesses = guesses.collectInt(WordleScoringEngine::pack).toArray();
+        int[] packedAnswers = answers.collectInt(WordleScoringEngine::pack).toArray();
+        byte[] matrix = new byte[Math.multiplyExact(packedGuesses.length, packedAnswers.length)];
+        pool.invoke(new FillRows(packedGuesses, packedAnswers, matrix, 0, packedGuesses.length));
+        return new WordleScoringEngine(guesses, answers, ByteBuffer.wrap(matrix));
+    }
+
+    /**
+     * Maps a matrix written by {@link #save(Path)} for the same guesses and answers, without scoring any words.
+     *
+     * @throws IllegalArgumentException if the file was saved for a different dictionary
+     */
+    public static WordleScoringEngine load(Path path, ImmutableList<String> guesses, ImmutableList<String> answers)
+            throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            if (mapped.capacity() < HEADER_BYTES
+                    || mapped.getInt(0) != MAGIC
+                    || mapped.getInt(4) != guesses.size()
+                    || mapped.getInt(8) != answers.size()
+                    || mapped.getInt(12) != checksum(guesses, answers)
+                    || mapped.capacity() != HEADER_BYTES + (long) guesses.size() * answers.size())
+            {
+                throw new IllegalArgumentException(path + " does not hold a matrix for these guesses and answers");
+            }
+            return new WordleScoringEngine(guesses, answers, mapped.slice(HEADER_BYTES, mapped.capacity() - HEADER_BYTES));
+        }
+    }
+
+    /**
+     * Writes the matrix to a memory-mapped file, with a header identifying the guesses and answers it was built for.
+     */
+    public void save(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE))
+        {
+            int size = this.matrix.capacity();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0L, HEADER_BYTES + (long) size);
+            mapped.putInt(MAGIC)
+                    .putInt(this.guesses.size())
+                    .putInt(this.answers.size())
+                    .putInt(checksum(this.guesses, this.answers))
+                    .put(this.matrix.duplicate().clear());
+            mapped.force();
+        }
+    }
+
+    public ImmutableList<String> getGuesses()
+    {
+        return this.guesses;
+    }
+
+    public ImmutableList<String> getAnswers()
+    {
+        return this.answers;
+    }
+
+    public int guessIndexOf(String guess)
+    {
+        return this.guessIndex.getIfAbsent(guess, -1);
+    }
+
+    public int answerIndexOf(String answer)
+    {
+        return this.answerIndex.getIfAbsent(answer, -1);
+    }
+
+    public int packedGuess(int guessIndex)
+    {
+        return this.packedGuesses.get(guessIndex);
+    }
+
+    public int packedAnswer(int answerIndex)
+    {
+        return this.packedAnswers.get(answerIndex);
+    }
+
+    /**
+     * Returns the base-3 feedback code for the guess and answer at the given indexes.
+     */
+    public int feedback(int guessIndex, int answerIndex)
+    {
+        return Byte.toUnsignedInt(this.matrix.get(guessIndex * this.answers.size() + answerIndex));
+    }
+
+    public int feedback(String guess, String answer)
+    {
+        int guessIndex = this.guessIndexOf(guess);
+        int answerIndex = this.answerIndexOf(answer);
+        if (guessIndex < 0 || answerIndex < 0)
+        {
+            throw new IllegalArgumentException("Unknown guess or answer: " + guess + ", " + answer);
+        }
+        return this.feedback(guessIndex, answerIndex);
+    }
+
+    /**
+     * Packs a five letter lowercase word into an int, five bits per letter with the first letter in the lowest bits.
+     */
+    public static int pack(String word)
+    {
+        if (word.length() != WORD_LENGTH)
+        {
+            throw new IllegalArgumentException("Not a five letter word: " + word);
+        }
+        int packed = 0;
+        for (int i = 0; i < WORD_LENGTH; i++)
+        {
+            char each = word.charAt(i);
+            if (each < 'a' || each > 'z')
+            {
+                throw new IllegalArgumentException("Not a lowercase word: " + word);
+            }
+            packed |= (each - 'a') << (i * 5);
+        }
+        return packed;
+    }
+
+    /**
+     * Scores a packed guess against a packed answer using the rules of {@link WordleEC#guess(String)}.
+     */
+    public static int score(int guess, int answer)
+    {
+        return score(guess, answer, new int[32]);
+    }
+
+    /**
+     * Scores a packed guess against a packed answer, counting the answer letters that are not matched in place in
+     * {@code counts}. The slots used are cleared again before returning, so one array can be reused for every pair.
+     */
+    private static int score(int guess, int answer, int[] counts)
+    {
+        int difference = guess ^ answer;
+        int code = 0;
+        int unmatched = 0;
+        for (int i = 0; i < WORD_LENGTH; i++)
+        {
+            if (letter(difference, i) == 0)
+            {
+                code += EXACT * POWERS_OF_THREE[i];
+            }
+            else
+            {
+                unmatched |= 1 << i;
+                counts[letter(answer, i)]++;
+            }
+        }
+        for (int positions = unmatched; positions != 0; positions &= positions - 1)
+        {
+            int i = Integer.numberOfTrailingZeros(positions);
+            int letter = letter(guess, i);
+            if (counts[letter] > 0)
+            {
+                counts[letter]--;
+                code += PRESENT * POWERS_OF_THREE[i];
+            }
+        }
+        for (int positions = unmatched; positions != 0; positions &= positions - 1)
+        {
+            counts[letter(answer, Integer.numberOfTrailingZeros(positions))] = 0;
+        }
+        return code;
+    }
+
+    /**
+     * Converts a feedback code back to the format returned by {@link WordleEC#guess(String)}.
+     */
+    public static String toString(String guess, int code)
+    {
+        char[] chars = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++)
+        {
+            int digit = code % 3;
+            chars[i] = digit == EXACT ? Character.toUpperCase(guess.charAt(i)) : digit == PRESENT ? guess.charAt(i) : '.';
+            code /= 3;
+        }
+        return new String(chars);
+    }
+
+    private static int letter(int packed, int position)
+    {
+        return (packed >>> (position * 5)) & 31;
+    }
+
+    private static ObjectIntMap<String> indexOf(ImmutableList<String> words)
+    {
+        MutableObjectIntMap<String> index = ObjectIntMaps.mutable.withInitialCapacity(words.size());
+        words.forEachWithIndex((each, i) -> index.getIfAbsentPut(each, i));
+        return index;
+    }
+
+    private static int checksum(ImmutableList<String> guesses, ImmutableList<String> answers)
+    {
+        return 31 * guesses.hashCode() + answers.hashCode();
+    }
+
+    private static final class FillRows extends RecursiveAction
+    {
+        private final int[] guesses;
+        private final int[] answers;
+        private final byte[] matrix;
+        private final int from;
+        private final int to;
+
+        private FillRows(int[] guesses, int[] answers, byte[] matrix, int from, int to)
+        {
+            this.guesses = guesses;
+            this.answers = answers;
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this.to - this.from <= ROWS_PER_TASK)
+            {
+                int[] counts = new int[32];
+                for (int g = this.from; g < this.to; g++)
+                {
+                    int guess = this.guesses[g];
+                    int offset = g * this.answers.length;
+                    for (int a = 0; a < this.answers.length; a++)
+                    {
+                        this.matrix[offset + a] = (byte) score(guess, this.answers[a], counts);
+                    }
+                }
+            }
+            else
+            {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                        new FillRows(this.guesses, this.answers, this.matrix, this.from, middle),
+                        new FillRows(this.guesses, this.answers, this.matrix, middle, this.to));
+            }
+        }
+    }
+}
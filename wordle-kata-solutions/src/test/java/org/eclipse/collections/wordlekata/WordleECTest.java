@@ -11,12 +11,13 @@
 package org.eclipse.collections.wordlekata;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 public class WordleECTest
 {
-//    @Test // Uncomment once guess is implemented for WordleEC
-//    @Tag("SOLUTION")
+    @Test
+    @Tag("SOLUTION")
     public void matchWordWithGuess()
     {
         Assertions.assertEquals(".....", new WordleEC("aaaaa").guess("bbbbb"));
@@ -42,4 +43,45 @@ public class WordleECTest
         Assertions.assertEquals("AAAAA", new WordleEC("aaaaa").guess("aaaaa"));
         Assertions.assertEquals("BRAVO", new WordleEC("bravo").guess("bravo"));
     }
+
+    @Test
+    @Tag("SOLUTION")
+    public void matchWordWithGuessIntoBuffer()
+    {
+        char[] buffer = new char[5];
+        Assertions.assertSame(buffer, new WordleEC("aabbb").guess("accaa", buffer));
+        Assertions.assertEquals("A..a.", new String(buffer));
+        Assertions.assertEquals("..A..", new String(new WordleEC("bbabb").guess("aaaaa", buffer)));
+        Assertions.assertEquals("BRAVO", new String(new WordleEC("bravo").guess("bravo", buffer)));
+        Assertions.assertEquals("...aa", new String(new WordleEC("aabbb").guess("cccaa", buffer)));
+        Assertions.assertEquals("s.a.e", new String(new WordleEC("ashes").guess("spade", new char[8]), 0, 5));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void guessMustMatchLength()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordleEC("bravo").guess("brave!"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordleEC("bravo").guess("bravo", new char[4]));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void guessInUppercase()
+    {
+        Assertions.assertEquals("BRAVO", new WordleEC("bravo").guess("BRAVO"));
+        Assertions.assertEquals("BRAV.", new WordleEC("bravo").guess("BRAVE"));
+        Assertions.assertEquals(".a...", new WordleEC("BRAVO").guess("xAxxx"));
+        Assertions.assertEquals("obrav", new String(new WordleEC("bravo").guess("OBRAV", new char[5])));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void guessMustOnlyHaveLettersAToZ()
+    {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordleEC("bravo").guess("br4vo"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordleEC("bravo").guess("br\u00e0vo"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordleEC("bravo").guess("brav{"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordleEC("br4vo").guess("bravo"));
+    }
 }
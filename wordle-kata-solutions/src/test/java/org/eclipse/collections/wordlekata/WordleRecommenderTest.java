@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.wordlekata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class WordleRecommenderTest
+{
+    private static final ImmutableList<String> ANSWERS = Lists.immutable.with(
+            "bravo", "brave", "crane", "crate", "slate", "stale", "steal", "later", "alter", "alert",
+            "pious", "query", "fjord", "nymph", "waltz", "glyph", "mound", "sound", "round", "hound");
+    private static final ImmutableList<String> GUESSES = ANSWERS.newWithAll(Lists.immutable.with("salet", "roate", "xylyl"));
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final WordleRecommender recommender =
+            new WordleRecommender(WordleScoringEngine.compute(GUESSES, ANSWERS), this.executor, 2);
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void solvesEveryAnswer()
+    {
+        ANSWERS.each(answer -> {
+            WordleRecommender.Session session = this.recommender.newSession();
+            WordleEC hidden = new WordleEC(answer);
+            int turns = 0;
+            String guess;
+            do
+            {
+                guess = session.recommend();
+                session.update(guess, hidden.guess(guess));
+                turns++;
+                Assertions.assertTrue(session.getRemainingWords().contains(answer), answer);
+            }
+            while (!guess.equals(answer) && turns < 6);
+            Assertions.assertEquals(answer, guess);
+        });
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void recommendsGuessWithHighestEntropy()
+    {
+        WordleRecommender.Session session = this.recommender.newSession();
+        String opening = session.recommend();
+
+        Assertions.assertSame(opening, this.recommender.newSession().recommend());
+        double best = this.recommender.entropy(opening, session.getRemaining());
+        GUESSES.each(guess -> Assertions.assertTrue(this.recommender.entropy(guess, session.getRemaining()) <= best));
+        Assertions.assertEquals(0.0, this.recommender.entropy("xylyl", IntSets.immutable.with(0, 1)), 0.0);
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void updateNarrowsRemainingAnswers()
+    {
+        WordleRecommender.Session session = this.recommender.newSession();
+        session.update("salet", new WordleEC("stale").guess("salet"));
+
+        Assertions.assertEquals(
+                ANSWERS.select(answer -> new WordleEC(answer).guess("salet").equals(new WordleEC("stale").guess("salet")))
+                        .toSortedList(),
+                session.getRemainingWords().toSortedList());
+
+        session.update("steal", new WordleEC("stale").guess("steal"));
+        Assertions.assertEquals(Lists.immutable.with("stale"), session.getRemainingWords());
+        Assertions.assertEquals("stale", session.recommend());
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void rejectsUnknownGuesses()
+    {
+        WordleRecommender.Session session = this.recommender.newSession();
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> this.recommender.entropy("qqqqq", session.getRemaining()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> session.update("qqqqq", "....."));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void feedbackCode()
+    {
+        Assertions.assertEquals(0, WordleRecommender.feedbackCode("....."));
+        Assertions.assertEquals(WordleScoringEngine.ALL_EXACT, WordleRecommender.feedbackCode("BRAVO"));
+        Assertions.assertEquals(
+                WordleScoringEngine.score(WordleScoringEngine.pack("accaa"), WordleScoringEngine.pack("aabbb")),
+                WordleRecommender.feedbackCode(new WordleEC("aabbb").guess("accaa")));
+    }
+}
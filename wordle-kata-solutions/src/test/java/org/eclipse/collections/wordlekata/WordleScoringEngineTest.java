@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 The Bank of New York Mellon.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.wordlekata;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WordleScoringEngineTest
+{
+    private static final ImmutableList<String> GUESSES = Lists.immutable.with(
+            "aaaaa", "bbbbb", "abbbb", "babbb", "caccc", "accca", "accaa", "aacaa", "cccaa", "bravo", "spade", "ashes");
+    private static final ImmutableList<String> ANSWERS = Lists.immutable.with(
+            "aaaaa", "abbbb", "aabbb", "bbabb", "bravo", "ashes");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Tag("SOLUTION")
+    public void score()
+    {
+        GUESSES.each(guess -> ANSWERS.each(answer -> Assertions.assertEquals(
+                new WordleEC(answer).guess(guess),
+                WordleScoringEngine.toString(
+                        guess,
+                        WordleScoringEngine.score(WordleScoringEngine.pack(guess), WordleScoringEngine.pack(answer))))));
+        Assertions.assertEquals(
+                WordleScoringEngine.ALL_EXACT,
+                WordleScoringEngine.score(WordleScoringEngine.pack("bravo"), WordleScoringEngine.pack("bravo")));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void scoreAllWordsOfThreeLetters()
+    {
+        MutableList<String> words = Lists.mutable.with("");
+        for (int i = 0; i < WordleScoringEngine.WORD_LENGTH; i++)
+        {
+            words = words.flatCollect(prefix -> Lists.mutable.with(prefix + 'a', prefix + 'b', prefix + 'c'));
+        }
+        char[] buffer = new char[WordleScoringEngine.WORD_LENGTH];
+        for (String answer : words)
+        {
+            WordleEC hidden = new WordleEC(answer);
+            int packedAnswer = WordleScoringEngine.pack(answer);
+            for (String guess : words)
+            {
+                Assertions.assertEquals(
+                        new String(hidden.guess(guess, buffer)),
+                        WordleScoringEngine.toString(guess, WordleScoringEngine.score(WordleScoringEngine.pack(guess), packedAnswer)));
+            }
+        }
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void compute()
+    {
+        WordleScoringEngine engine = WordleScoringEngine.compute(GUESSES, ANSWERS, new ForkJoinPool(4));
+
+        GUESSES.each(guess -> ANSWERS.each(answer -> Assertions.assertEquals(
+                new WordleEC(answer).guess(guess),
+                WordleScoringEngine.toString(guess, engine.feedback(guess, answer)))));
+        Assertions.assertEquals(-1, engine.guessIndexOf("zzzzz"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.feedback("zzzzz", "bravo"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WordleScoringEngine.pack("Bravo"));
+    }
+
+    @Test
+    @Tag("SOLUTION")
+    public void saveAndLoad() throws IOException
+    {
+        Path path = this.directory.resolve("feedback.bin");
+        WordleScoringEngine computed = WordleScoringEngine.compute(GUESSES, ANSWERS);
+        computed.save(path);
+
+        WordleScoringEngine loaded = WordleScoringEngine.load(path, GUESSES, ANSWERS);
+        for (int g = 0; g < GUESSES.size(); g++)
+        {
+            for (int a = 0; a < ANSWERS.size(); a++)
+            {
+                Assertions.assertEquals(computed.feedback(g, a), loaded.feedback(g, a));
+            }
+        }
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> WordleScoringEngine.load(path, GUESSES, ANSWERS.newWith("spade")));
+    }
+}